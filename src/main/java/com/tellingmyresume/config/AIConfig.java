@@ -1,5 +1,8 @@
 package com.tellingmyresume.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 import io.micrometer.observation.ObservationRegistry;
 import org.springframework.ai.anthropic.AnthropicChatModel;
 import org.springframework.ai.anthropic.AnthropicChatOptions;
@@ -8,7 +11,9 @@ import org.springframework.ai.model.tool.ToolCallingManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.web.client.RestClient;
 
 @Configuration
 public class AIConfig {
@@ -16,11 +21,19 @@ public class AIConfig {
     @Value("${spring.ai.anthropic.api-key}")
     private String anthropicApiKey;
 
+    @Value("${http.client.read-timeout:60s}")
+    private Duration readTimeout;
+
     @Bean
-    public AnthropicChatModel anthropicChatModel() {
+    public AnthropicChatModel anthropicChatModel(HttpClient httpClient) {
+        // Mesmo cliente HTTP/2 do Gemini, com timeout de leitura para que chamadas presas não segurem o bulkhead
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
         AnthropicApi anthropicApi = AnthropicApi.builder()
             .baseUrl(AnthropicApi.DEFAULT_BASE_URL)
             .apiKey(anthropicApiKey)
+            .restClientBuilder(RestClient.builder().requestFactory(requestFactory))
             .build();
             
         AnthropicChatOptions defaultOptions = AnthropicChatOptions.builder().build();
@@ -1,24 +1,49 @@
 package com.tellingmyresume.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${async.executor.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${async.executor.max-pool-size:5}")
+    private int maxPoolSize;
+
+    @Value("${async.executor.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${async.executor.virtual.concurrency-limit:500}")
+    private int virtualConcurrencyLimit;
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        if (virtualThreadsEnabled) {
+            // Chamadas aos provedores ficam bloqueadas em I/O: uma virtual thread por tarefa,
+            // com limite de concorrência para não sobrecarregar as APIs externas. No limite a
+            // tarefa é recusada, e não enfileirada, para que esperas aninhadas não travem.
+            return new BoundedVirtualThreadExecutor("AI-Service-", virtualConcurrencyLimit);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(10);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("AI-Service-");
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
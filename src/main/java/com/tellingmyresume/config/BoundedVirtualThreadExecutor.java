@@ -0,0 +1,45 @@
+package com.tellingmyresume.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Executa cada tarefa em uma virtual thread, com no máximo {@code concurrencyLimit} tarefas em
+ * andamento. No limite a tarefa é recusada em vez de bloquear quem a submete: uma tarefa que
+ * espera subtarefas no mesmo executor (seções, lote, hedge) não fica presa aguardando vagas
+ * ocupadas por outras tarefas na mesma espera, e quem chama roda a subtarefa na própria thread.
+ */
+public class BoundedVirtualThreadExecutor implements TaskExecutor {
+
+    private final Semaphore permits;
+    private final int concurrencyLimit;
+    private final ThreadFactory threadFactory;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        this.permits = new Semaphore(concurrencyLimit);
+        this.concurrencyLimit = concurrencyLimit;
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 1).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("Limite de " + concurrencyLimit + " tarefas simultâneas atingido");
+        }
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+}
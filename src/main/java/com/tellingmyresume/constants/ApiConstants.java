@@ -9,7 +9,19 @@ public final class ApiConstants {
     // Gemini API
     public static final String GEMINI_BASE_URL = 
         "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash-latest:generateContent?key=";
+
+    public static final String GEMINI_STREAM_URL = 
+        "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash-latest:streamGenerateContent?alt=sse&key=";
+
+    // Metadados do modelo: verifica chave e disponibilidade sem consumir tokens
+    public static final String GEMINI_MODEL_URL = 
+        "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash-latest?key=";
         
     public static final String GEMINI_PROMPT_TEMPLATE = 
         "Descreva o currículo a seguir para uma oferta de trabalho de maneira a valorizar o mesmo: ";
+
+    // Anthropic API
+    public static final String ANTHROPIC_MODELS_URL = "https://api.anthropic.com/v1/models?limit=1";
+
+    public static final String ANTHROPIC_VERSION = "2023-06-01";
 }
\ No newline at end of file
@@ -10,6 +10,9 @@ public final class ErrorCodes {
     public static final String RESUME_NOT_FOUND = "RESUME_001";
     public static final String RESUME_INVALID = "RESUME_002";
     public static final String RESUME_PROCESSING_ERROR = "RESUME_003";
+    public static final String RESUME_EXTRACTION_OVERLOADED = "RESUME_004";
+    public static final String RESUME_EXTRACTION_TIMEOUT = "RESUME_005";
+    public static final String RESUME_QUARANTINED = "RESUME_006";
     
     // Storage related errors
     public static final String STORAGE_SAVE_ERROR = "STORAGE_001";
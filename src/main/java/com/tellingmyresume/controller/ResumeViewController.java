@@ -1,47 +1,86 @@
 package com.tellingmyresume.controller;
 
+import com.tellingmyresume.constants.ErrorMessages;
 import com.tellingmyresume.dto.ResumeViewData;
 import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
-import com.tellingmyresume.exception.AIServiceException;
-import com.tellingmyresume.exception.ResumeNotFoundException;
 import com.tellingmyresume.formatter.ResumeFormatter;
 import com.tellingmyresume.service.ResumeAnalysisService;
+import com.tellingmyresume.service.ResumeViewCacheService;
+import com.tellingmyresume.service.ResumeViewCacheService.RenderResult;
+import com.tellingmyresume.service.ResumeViewCacheService.RenderedView;
+import com.tellingmyresume.service.ResumeViewCacheService.ViewCacheKey;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
 
 import java.util.Arrays;
+import java.util.Locale;
 
 @Controller
 @RequestMapping("/resume")
 public class ResumeViewController {
 
     private final ResumeAnalysisService resumeAnalysisService;
+    private final ResumeViewCacheService viewCache;
+    private final ITemplateEngine templateEngine;
 
-    public ResumeViewController(ResumeAnalysisService resumeAnalysisService) {
+    public ResumeViewController(ResumeAnalysisService resumeAnalysisService,
+                                ResumeViewCacheService viewCache,
+                                ITemplateEngine templateEngine) {
         this.resumeAnalysisService = resumeAnalysisService;
+        this.viewCache = viewCache;
+        this.templateEngine = templateEngine;
     }
 
+    /**
+     * A página renderizada fica em cache por conteúdo, provedor e idioma. ETag e Last-Modified
+     * acompanham a resposta; com If-None-Match ou If-Modified-Since válidos o Spring responde 304
+     * sem corpo. Nenhuma análise é feita quando a página já está em cache, e a chave usa o checksum
+     * gravado no upload, sem ler o texto do currículo. Como o idioma entra na chave, a resposta
+     * varia por Accept-Language.
+     */
     @GetMapping("/view/{fileName}")
-    public String viewResume(@PathVariable String fileName, Model model) {
-        ResumeViewData data = prepareResumeData(fileName);
+    public ResponseEntity<String> viewResume(@PathVariable String fileName,
+                                             @RequestParam(required = false) String provider,
+                                             Locale locale) {
+        ViewCacheKey key = viewCache.keyFor(resumeAnalysisService.getResumeChecksum(fileName), provider, locale);
 
-        model.addAttribute("resume", data.getFormattedResume());
-        model.addAttribute("strengths", Arrays.asList(
+        RenderedView view = viewCache.getOrRender(key, () -> render(fileName, provider, locale));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_HTML)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .eTag(view.etag())
+                .lastModified(view.lastModified())
+                .body(view.html());
+    }
+
+    private RenderResult render(String fileName, String provider, Locale locale) {
+        ResumeAnalysisResponse analysisResponse = provider == null
+                ? resumeAnalysisService.analyzeResumeWithBestAvailable(fileName)
+                : resumeAnalysisService.analyzeResumeWithProvider(fileName, provider);
+        ResumeViewData data = new ResumeViewData(ResumeFormatter.formatResume(analysisResponse.getAnalysis()));
+
+        Context context = new Context(locale);
+        context.setVariable("resume", data.getFormattedResume());
+        context.setVariable("strengths", Arrays.asList(
             "Experiência consolidada em Java",
             "Desenvolvimento de microserviços",
             "Conhecimento de DevOps"
         ));
 
-        return "resumeView";
-    }
-
-    private ResumeViewData prepareResumeData(String fileName) {
-        ResumeAnalysisResponse analysisResponse = resumeAnalysisService.analyzeResumeWithBestAvailable(fileName);
-        String formattedResume = ResumeFormatter.formatResume(analysisResponse.getAnalysis());
-
-        return new ResumeViewData(formattedResume);
+        // Assim como no cache de análises, a mensagem de fallback do provedor nunca fica em cache
+        boolean cacheable = analysisResponse.isSuccess()
+                && !ErrorMessages.GEMINI_FALLBACK_MESSAGE.equals(analysisResponse.getAnalysis());
+        return new RenderResult(templateEngine.process("resumeView", context), cacheable);
     }
-}
\ No newline at end of file
+}
@@ -6,10 +6,14 @@ import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.tellingmyresume.dto.request.RoutingWeightsRequest;
 import com.tellingmyresume.dto.response.ProviderStatusResponse;
+import com.tellingmyresume.dto.response.RoutingStatusResponse;
 import com.tellingmyresume.service.AIProviderService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +23,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/v1/ai")
@@ -53,7 +58,8 @@ public class AIProviderControllerV1 {
     
     @Operation(
         summary = "Status completo do sistema", 
-        description = "Fornece um panorama detalhado do status de todos os provedores de IA, incluindo provedor preferido e disponibilidade geral"
+        description = "Fornece um panorama detalhado do status de todos os provedores de IA, incluindo provedor preferido e disponibilidade geral. "
+                + "A disponibilidade vem da última sondagem ativa feita em segundo plano, com horário e latência em providerHealth"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -126,4 +132,37 @@ public class AIProviderControllerV1 {
         }
         return ResponseEntity.ok(Map.of("preferred", preferred));
     }
-}
\ No newline at end of file
+    
+    @Operation(
+        summary = "Métricas de roteamento",
+        description = "Retorna latência p50/p99, taxa de erro e custo estimado de cada provedor na janela recente, "
+                + "os pesos em uso e a ordem atual de preferência"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Métricas obtidas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = "{\"weights\":{\"latency\":1.0,\"errorRate\":2.0,\"cost\":0.5},\"providers\":[{\"provider\":\"Claude\",\"samples\":42,\"p50LatencyMs\":3100,\"p99LatencyMs\":7800,\"errorRate\":0.02}],\"ranking\":[\"Claude\",\"Gemini\"]}")
+            )
+        )
+    })
+    @GetMapping("/routing")
+    public ResponseEntity<RoutingStatusResponse> getRoutingStatus() {
+        return ResponseEntity.ok(aiProviderService.getRoutingStatus());
+    }
+    
+    @Operation(
+        summary = "Atualizar pesos de roteamento",
+        description = "Altera em tempo de execução os pesos de latência, taxa de erro e custo usados na escolha do provedor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Pesos atualizados"),
+        @ApiResponse(responseCode = "400", description = "Pesos inválidos")
+    })
+    @PutMapping("/routing/weights")
+    public ResponseEntity<RoutingStatusResponse> updateRoutingWeights(@Valid @RequestBody RoutingWeightsRequest request) {
+        return ResponseEntity.ok(aiProviderService.updateRoutingWeights(request));
+    }
+}
@@ -0,0 +1,79 @@
+package com.tellingmyresume.controller.v1;
+
+import java.net.URI;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tellingmyresume.dto.request.AnalysisJobRequest;
+import com.tellingmyresume.dto.response.AnalysisJobResponse;
+import com.tellingmyresume.service.AnalysisJobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/v1/analysis/jobs")
+@Tag(name = "Analysis Jobs API v1", description = "Análises assíncronas com consulta de status e callback - Versão 1.0")
+public class AnalysisJobControllerV1 {
+
+    private final AnalysisJobService analysisJobService;
+
+    public AnalysisJobControllerV1(AnalysisJobService analysisJobService) {
+        this.analysisJobService = analysisJobService;
+    }
+
+    @Operation(
+        summary = "Enfileirar análise",
+        description = "Registra a análise de um currículo para execução em segundo plano e retorna o id do job imediatamente. "
+                + "Se callbackUrl for informada, o resultado é enviado via POST ao final; o host precisa estar na lista de permitidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Job aceito",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = "{\"jobId\":\"6f1c2a7e-0d4b-4c1e-9a55-2b8f3c1d9e10\",\"fileName\":\"curriculum.pdf\",\"status\":\"PENDING\"}")
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Requisição inválida ou URL de callback não permitida"),
+        @ApiResponse(responseCode = "404", description = "Currículo não encontrado")
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AnalysisJobResponse> submitJob(@Valid @RequestBody AnalysisJobRequest request) {
+        AnalysisJobResponse response = analysisJobService.submitJob(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/analysis/jobs/" + response.getJobId()))
+                .body(response);
+    }
+
+    @Operation(
+        summary = "Consultar job",
+        description = "Retorna o status do job e, quando concluído, o resultado da análise"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status obtido com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Job não encontrado")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AnalysisJobResponse> getJob(
+            @Parameter(description = "Identificador do job")
+            @PathVariable String jobId) {
+        return analysisJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,55 @@
+package com.tellingmyresume.controller.v1;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tellingmyresume.dto.request.BatchAnalysisRequest;
+import com.tellingmyresume.dto.response.BatchAnalysisResponse;
+import com.tellingmyresume.service.BatchAnalysisService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/v1/resume/analyze")
+@Tag(name = "Resume API v1", description = "API para análise de currículos - Versão 1.0")
+public class BatchAnalysisControllerV1 {
+
+    private final BatchAnalysisService batchAnalysisService;
+
+    public BatchAnalysisControllerV1(BatchAnalysisService batchAnalysisService) {
+        this.batchAnalysisService = batchAnalysisService;
+    }
+
+    @Operation(
+        summary = "Análise de currículos em lote",
+        description = "Analisa vários currículos em uma única chamada, informados por nome ou por data de upload "
+                + "(uploadedSince). As chamadas são distribuídas respeitando o limite de concorrência de cada provedor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; o resultado de cada item indica sucesso ou falha",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(value = "{\"results\":[{\"fileName\":\"curriculum.pdf\",\"aiProvider\":\"Claude\",\"analysis\":\"Profissional com sólida experiência...\",\"success\":true,\"durationMs\":4210}],\"totalItems\":1,\"succeeded\":1,\"failed\":0,\"totalDurationMs\":4215,\"averageItemDurationMs\":4210,\"maxItemDurationMs\":4210}")
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Requisição inválida ou provedor não suportado"),
+        @ApiResponse(responseCode = "503", description = "Nenhum serviço de IA disponível")
+    })
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchAnalysisResponse> analyzeBatch(@Valid @RequestBody BatchAnalysisRequest request) {
+        BatchAnalysisResponse response = batchAnalysisService.analyzeBatch(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,7 @@
 package com.tellingmyresume.controller.v1;
 
 import com.tellingmyresume.dto.request.ResumeUploadRequest;
+import com.tellingmyresume.dto.response.AnalysisStreamEvent;
 import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
 import com.tellingmyresume.dto.response.ResumeContentResponse;
 import com.tellingmyresume.dto.response.ResumeUploadResponse;
@@ -16,8 +17,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequestMapping("/api/v1/resume")
@@ -105,6 +108,34 @@ public class ResumeControllerV1 {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(
+        summary = "Análise de currículo em streaming",
+        description = "Transmite a análise via Server-Sent Events à medida que o provedor de IA gera o texto. "
+                + "Emite eventos 'chunk' com trechos do texto, seguidos de 'complete' (ou 'error')"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream de eventos da análise",
+            content = @Content(
+                mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                examples = @ExampleObject(value = "event:chunk\ndata:{\"type\":\"chunk\",\"aiProvider\":\"Claude\",\"content\":\"Profissional com\"}")
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Provedor não suportado"),
+        @ApiResponse(responseCode = "404", description = "Currículo não encontrado"),
+        @ApiResponse(responseCode = "503", description = "Nenhum serviço de IA disponível")
+    })
+    @GetMapping(value = "/analyze/{fileName}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<AnalysisStreamEvent>> streamAnalysis(
+            @Parameter(description = "Nome do arquivo do currículo")
+            @PathVariable String fileName,
+            @Parameter(description = "Provedor de IA (Claude, Gemini); se omitido, usa o melhor disponível", example = "Claude")
+            @RequestParam(required = false) String provider) {
+        return resumeAnalysisService.streamResumeAnalysis(fileName, provider)
+                .map(event -> ServerSentEvent.builder(event).event(event.getType()).build());
+    }
+    
     @Operation(
         summary = "Análise com provedor específico",
         description = "Força a análise usando um provedor de IA específico (Claude ou Gemini)"
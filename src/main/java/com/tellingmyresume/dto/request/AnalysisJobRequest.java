@@ -0,0 +1,51 @@
+package com.tellingmyresume.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public class AnalysisJobRequest {
+
+    @NotBlank(message = "Nome do arquivo é obrigatório")
+    @Size(max = 255, message = "Nome do arquivo deve ter no máximo 255 caracteres")
+    private String fileName;
+
+    private String aiProvider;
+
+    @Pattern(regexp = "^https?://.+", message = "URL de callback deve usar http ou https")
+    @Size(max = 2048, message = "URL de callback deve ter no máximo 2048 caracteres")
+    private String callbackUrl;
+
+    public AnalysisJobRequest() {
+    }
+
+    public AnalysisJobRequest(String fileName, String aiProvider, String callbackUrl) {
+        this.fileName = fileName;
+        this.aiProvider = aiProvider;
+        this.callbackUrl = callbackUrl;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getAiProvider() {
+        return aiProvider;
+    }
+
+    public void setAiProvider(String aiProvider) {
+        this.aiProvider = aiProvider;
+    }
+
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    public void setCallbackUrl(String callbackUrl) {
+        this.callbackUrl = callbackUrl;
+    }
+}
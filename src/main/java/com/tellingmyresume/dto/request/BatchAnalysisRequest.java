@@ -0,0 +1,60 @@
+package com.tellingmyresume.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+public class BatchAnalysisRequest {
+
+    public static final int MAX_FILES = 5000;
+
+    @Size(max = MAX_FILES, message = "Lote deve ter no máximo 5000 arquivos")
+    private List<String> fileNames;
+
+    private LocalDateTime uploadedSince;
+
+    private String aiProvider;
+
+    public BatchAnalysisRequest() {
+    }
+
+    public BatchAnalysisRequest(List<String> fileNames, String aiProvider) {
+        this.fileNames = fileNames;
+        this.aiProvider = aiProvider;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Informe fileNames ou uploadedSince (apenas um deles)")
+    public boolean isSelectionValid() {
+        boolean hasFileNames = fileNames != null && !fileNames.isEmpty();
+        return hasFileNames ^ (uploadedSince != null);
+    }
+
+    public List<String> getFileNames() {
+        return fileNames;
+    }
+
+    public void setFileNames(List<String> fileNames) {
+        this.fileNames = fileNames;
+    }
+
+    public LocalDateTime getUploadedSince() {
+        return uploadedSince;
+    }
+
+    public void setUploadedSince(LocalDateTime uploadedSince) {
+        this.uploadedSince = uploadedSince;
+    }
+
+    public String getAiProvider() {
+        return aiProvider;
+    }
+
+    public void setAiProvider(String aiProvider) {
+        this.aiProvider = aiProvider;
+    }
+}
@@ -0,0 +1,52 @@
+package com.tellingmyresume.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public class RoutingWeightsRequest {
+
+    @NotNull(message = "Peso de latência é obrigatório")
+    @PositiveOrZero(message = "Peso de latência não pode ser negativo")
+    private Double latency;
+
+    @NotNull(message = "Peso da taxa de erro é obrigatório")
+    @PositiveOrZero(message = "Peso da taxa de erro não pode ser negativo")
+    private Double errorRate;
+
+    @NotNull(message = "Peso de custo é obrigatório")
+    @PositiveOrZero(message = "Peso de custo não pode ser negativo")
+    private Double cost;
+
+    public RoutingWeightsRequest() {
+    }
+
+    public RoutingWeightsRequest(Double latency, Double errorRate, Double cost) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.cost = cost;
+    }
+
+    public Double getLatency() {
+        return latency;
+    }
+
+    public void setLatency(Double latency) {
+        this.latency = latency;
+    }
+
+    public Double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(Double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public Double getCost() {
+        return cost;
+    }
+
+    public void setCost(Double cost) {
+        this.cost = cost;
+    }
+}
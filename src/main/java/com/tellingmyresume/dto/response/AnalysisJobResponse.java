@@ -0,0 +1,108 @@
+package com.tellingmyresume.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.tellingmyresume.model.AnalysisJob;
+import com.tellingmyresume.model.AnalysisJobStatus;
+
+public class AnalysisJobResponse {
+
+    private String jobId;
+    private String fileName;
+    private AnalysisJobStatus status;
+    private String aiProvider;
+    private String analysis;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public AnalysisJobResponse() {
+    }
+
+    public static AnalysisJobResponse from(AnalysisJob job) {
+        AnalysisJobResponse response = new AnalysisJobResponse();
+        response.jobId = job.getId();
+        response.fileName = job.getFileName();
+        response.status = job.getStatus();
+        response.aiProvider = job.getResultProvider() != null ? job.getResultProvider() : job.getAiProvider();
+        response.analysis = job.getResult();
+        response.errorMessage = job.getErrorMessage();
+        response.createdAt = job.getCreatedAt();
+        response.startedAt = job.getStartedAt();
+        response.completedAt = job.getCompletedAt();
+        return response;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public AnalysisJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AnalysisJobStatus status) {
+        this.status = status;
+    }
+
+    public String getAiProvider() {
+        return aiProvider;
+    }
+
+    public void setAiProvider(String aiProvider) {
+        this.aiProvider = aiProvider;
+    }
+
+    public String getAnalysis() {
+        return analysis;
+    }
+
+    public void setAnalysis(String analysis) {
+        this.analysis = analysis;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.tellingmyresume.dto.response;
+
+public class AnalysisStreamEvent {
+
+    public static final String CHUNK = "chunk";
+    public static final String COMPLETE = "complete";
+    public static final String ERROR = "error";
+
+    private String type;
+    private String aiProvider;
+    private String content;
+
+    public AnalysisStreamEvent() {
+    }
+
+    public AnalysisStreamEvent(String type, String aiProvider, String content) {
+        this.type = type;
+        this.aiProvider = aiProvider;
+        this.content = content;
+    }
+
+    public static AnalysisStreamEvent chunk(String aiProvider, String content) {
+        return new AnalysisStreamEvent(CHUNK, aiProvider, content);
+    }
+
+    public static AnalysisStreamEvent complete(String aiProvider) {
+        return new AnalysisStreamEvent(COMPLETE, aiProvider, null);
+    }
+
+    public static AnalysisStreamEvent error(String aiProvider, String message) {
+        return new AnalysisStreamEvent(ERROR, aiProvider, message);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getAiProvider() {
+        return aiProvider;
+    }
+
+    public void setAiProvider(String aiProvider) {
+        this.aiProvider = aiProvider;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
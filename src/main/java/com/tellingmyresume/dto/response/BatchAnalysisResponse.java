@@ -0,0 +1,163 @@
+package com.tellingmyresume.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BatchAnalysisResponse {
+
+    private List<Item> results;
+    private int totalItems;
+    private int succeeded;
+    private int failed;
+    private long totalDurationMs;
+    private long averageItemDurationMs;
+    private long maxItemDurationMs;
+    private LocalDateTime completedAt;
+
+    public BatchAnalysisResponse() {
+    }
+
+    public BatchAnalysisResponse(List<Item> results, long totalDurationMs) {
+        this.results = results;
+        this.totalItems = results.size();
+        this.succeeded = (int) results.stream().filter(Item::isSuccess).count();
+        this.failed = totalItems - succeeded;
+        this.totalDurationMs = totalDurationMs;
+        this.averageItemDurationMs = (long) results.stream().mapToLong(Item::getDurationMs).average().orElse(0);
+        this.maxItemDurationMs = results.stream().mapToLong(Item::getDurationMs).max().orElse(0);
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Item> results) {
+        this.results = results;
+    }
+
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    public void setTotalItems(int totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getTotalDurationMs() {
+        return totalDurationMs;
+    }
+
+    public void setTotalDurationMs(long totalDurationMs) {
+        this.totalDurationMs = totalDurationMs;
+    }
+
+    public long getAverageItemDurationMs() {
+        return averageItemDurationMs;
+    }
+
+    public void setAverageItemDurationMs(long averageItemDurationMs) {
+        this.averageItemDurationMs = averageItemDurationMs;
+    }
+
+    public long getMaxItemDurationMs() {
+        return maxItemDurationMs;
+    }
+
+    public void setMaxItemDurationMs(long maxItemDurationMs) {
+        this.maxItemDurationMs = maxItemDurationMs;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public static class Item {
+
+        private String fileName;
+        private String aiProvider;
+        private String analysis;
+        private boolean success;
+        private long durationMs;
+
+        public Item() {
+        }
+
+        public Item(String fileName, String aiProvider, String analysis, boolean success, long durationMs) {
+            this.fileName = fileName;
+            this.aiProvider = aiProvider;
+            this.analysis = analysis;
+            this.success = success;
+            this.durationMs = durationMs;
+        }
+
+        public static Item of(ResumeAnalysisResponse response, long durationMs) {
+            return new Item(response.getFileName(), response.getAiProvider(), response.getAnalysis(),
+                    response.isSuccess(), durationMs);
+        }
+
+        public static Item error(String fileName, String aiProvider, String message, long durationMs) {
+            return new Item(fileName, aiProvider, message, false, durationMs);
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public void setFileName(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getAiProvider() {
+            return aiProvider;
+        }
+
+        public void setAiProvider(String aiProvider) {
+            this.aiProvider = aiProvider;
+        }
+
+        public String getAnalysis() {
+            return analysis;
+        }
+
+        public void setAnalysis(String analysis) {
+            this.analysis = analysis;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        public void setDurationMs(long durationMs) {
+            this.durationMs = durationMs;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.tellingmyresume.dto.response;
+
+import java.time.LocalDateTime;
+
+public class ProviderHealthStatus {
+    
+    private boolean available;
+    private LocalDateTime checkedAt;
+    private long latencyMs;
+    private String lastError;
+    private int consecutiveFailures;
+    
+    public ProviderHealthStatus() {
+    }
+    
+    public ProviderHealthStatus(boolean available, LocalDateTime checkedAt, long latencyMs,
+                                String lastError, int consecutiveFailures) {
+        this.available = available;
+        this.checkedAt = checkedAt;
+        this.latencyMs = latencyMs;
+        this.lastError = lastError;
+        this.consecutiveFailures = consecutiveFailures;
+    }
+    
+    public static ProviderHealthStatus up(long latencyMs) {
+        return new ProviderHealthStatus(true, LocalDateTime.now(), latencyMs, null, 0);
+    }
+    
+    public static ProviderHealthStatus down(long latencyMs, String error, int consecutiveFailures) {
+        return new ProviderHealthStatus(false, LocalDateTime.now(), latencyMs, error, consecutiveFailures);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public LocalDateTime getCheckedAt() {
+        return checkedAt;
+    }
+
+    public void setCheckedAt(LocalDateTime checkedAt) {
+        this.checkedAt = checkedAt;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(int consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+}
@@ -0,0 +1,95 @@
+package com.tellingmyresume.dto.response;
+
+public class ProviderRoutingStats {
+
+    private String provider;
+    private int samples;
+    private long p50LatencyMs;
+    private long p99LatencyMs;
+    private double errorRate;
+    private double averageTokens;
+    private double costPer1kTokens;
+    private double score;
+
+    public ProviderRoutingStats() {
+    }
+
+    public ProviderRoutingStats(String provider, int samples, long p50LatencyMs, long p99LatencyMs,
+                                double errorRate, double averageTokens, double costPer1kTokens) {
+        this.provider = provider;
+        this.samples = samples;
+        this.p50LatencyMs = p50LatencyMs;
+        this.p99LatencyMs = p99LatencyMs;
+        this.errorRate = errorRate;
+        this.averageTokens = averageTokens;
+        this.costPer1kTokens = costPer1kTokens;
+    }
+
+    public double getAverageCost() {
+        return averageTokens / 1000 * costPer1kTokens;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public void setSamples(int samples) {
+        this.samples = samples;
+    }
+
+    public long getP50LatencyMs() {
+        return p50LatencyMs;
+    }
+
+    public void setP50LatencyMs(long p50LatencyMs) {
+        this.p50LatencyMs = p50LatencyMs;
+    }
+
+    public long getP99LatencyMs() {
+        return p99LatencyMs;
+    }
+
+    public void setP99LatencyMs(long p99LatencyMs) {
+        this.p99LatencyMs = p99LatencyMs;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public double getAverageTokens() {
+        return averageTokens;
+    }
+
+    public void setAverageTokens(double averageTokens) {
+        this.averageTokens = averageTokens;
+    }
+
+    public double getCostPer1kTokens() {
+        return costPer1kTokens;
+    }
+
+    public void setCostPer1kTokens(double costPer1kTokens) {
+        this.costPer1kTokens = costPer1kTokens;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -11,6 +11,9 @@ public class ProviderStatusResponse {
     private String preferredProvider;
     private boolean hasAvailableProvider;
     private LocalDateTime checkedAt;
+    private Map<String, ProviderHealthStatus> providerHealth;
+    private Map<String, String> circuitBreakerStates;
+    private Map<String, Integer> bulkheadAvailableCalls;
     
     public ProviderStatusResponse() {
         this.checkedAt = LocalDateTime.now();
@@ -66,4 +69,28 @@ public class ProviderStatusResponse {
     public void setCheckedAt(LocalDateTime checkedAt) {
         this.checkedAt = checkedAt;
     }
+
+    public Map<String, ProviderHealthStatus> getProviderHealth() {
+        return providerHealth;
+    }
+
+    public void setProviderHealth(Map<String, ProviderHealthStatus> providerHealth) {
+        this.providerHealth = providerHealth;
+    }
+
+    public Map<String, String> getCircuitBreakerStates() {
+        return circuitBreakerStates;
+    }
+
+    public void setCircuitBreakerStates(Map<String, String> circuitBreakerStates) {
+        this.circuitBreakerStates = circuitBreakerStates;
+    }
+
+    public Map<String, Integer> getBulkheadAvailableCalls() {
+        return bulkheadAvailableCalls;
+    }
+
+    public void setBulkheadAvailableCalls(Map<String, Integer> bulkheadAvailableCalls) {
+        this.bulkheadAvailableCalls = bulkheadAvailableCalls;
+    }
 }
\ No newline at end of file
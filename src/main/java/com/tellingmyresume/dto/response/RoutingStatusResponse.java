@@ -0,0 +1,56 @@
+package com.tellingmyresume.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class RoutingStatusResponse {
+
+    private Map<String, Double> weights;
+    private List<ProviderRoutingStats> providers;
+    private List<String> ranking;
+    private LocalDateTime checkedAt;
+
+    public RoutingStatusResponse() {
+        this.checkedAt = LocalDateTime.now();
+    }
+
+    public RoutingStatusResponse(Map<String, Double> weights, List<ProviderRoutingStats> providers, List<String> ranking) {
+        this();
+        this.weights = weights;
+        this.providers = providers;
+        this.ranking = ranking;
+    }
+
+    public Map<String, Double> getWeights() {
+        return weights;
+    }
+
+    public void setWeights(Map<String, Double> weights) {
+        this.weights = weights;
+    }
+
+    public List<ProviderRoutingStats> getProviders() {
+        return providers;
+    }
+
+    public void setProviders(List<ProviderRoutingStats> providers) {
+        this.providers = providers;
+    }
+
+    public List<String> getRanking() {
+        return ranking;
+    }
+
+    public void setRanking(List<String> ranking) {
+        this.ranking = ranking;
+    }
+
+    public LocalDateTime getCheckedAt() {
+        return checkedAt;
+    }
+
+    public void setCheckedAt(LocalDateTime checkedAt) {
+        this.checkedAt = checkedAt;
+    }
+}
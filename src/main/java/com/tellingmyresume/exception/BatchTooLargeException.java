@@ -0,0 +1,26 @@
+package com.tellingmyresume.exception;
+
+import com.tellingmyresume.constants.ErrorCodes;
+import org.springframework.http.HttpStatus;
+
+public class BatchTooLargeException extends ValidationBusinessException {
+    private static final long serialVersionUID = -2871906419273365541L;
+
+    private final int selected;
+    private final int maxItems;
+
+    public BatchTooLargeException(int selected, int maxItems) {
+        super("Lote com " + selected + " currículos excede o máximo de " + maxItems,
+                HttpStatus.BAD_REQUEST, ErrorCodes.REQUEST_INVALID);
+        this.selected = selected;
+        this.maxItems = maxItems;
+    }
+
+    public int getSelected() {
+        return selected;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+}
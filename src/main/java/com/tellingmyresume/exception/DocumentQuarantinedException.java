@@ -0,0 +1,16 @@
+package com.tellingmyresume.exception;
+
+import com.tellingmyresume.constants.ErrorCodes;
+import org.springframework.http.HttpStatus;
+
+/**
+ * O documento estourou o prazo de extração repetidas vezes e é recusado até ser enviado
+ * novamente ou até o fim da quarentena.
+ */
+public class DocumentQuarantinedException extends ResumeBusinessException {
+    private static final long serialVersionUID = -1840719350126483127L;
+
+    public DocumentQuarantinedException(String message) {
+        super(message, HttpStatus.UNPROCESSABLE_ENTITY, ErrorCodes.RESUME_QUARANTINED);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tellingmyresume.exception;
+
+import com.tellingmyresume.constants.ErrorCodes;
+import org.springframework.http.HttpStatus;
+
+/**
+ * A extração de texto foi recusada por falta de capacidade no momento; o documento em si
+ * não tem problema e a requisição pode ser repetida mais tarde.
+ */
+public class ExtractionOverloadedException extends ResumeBusinessException {
+    private static final long serialVersionUID = -6021731562648830714L;
+
+    public ExtractionOverloadedException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, ErrorCodes.RESUME_EXTRACTION_OVERLOADED);
+    }
+
+    public ExtractionOverloadedException(String message, Throwable cause) {
+        super(message, cause, HttpStatus.SERVICE_UNAVAILABLE, ErrorCodes.RESUME_EXTRACTION_OVERLOADED);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tellingmyresume.exception;
+
+import com.tellingmyresume.constants.ErrorCodes;
+import org.springframework.http.HttpStatus;
+
+/**
+ * A extração de texto começou mas não terminou dentro do prazo.
+ */
+public class ExtractionTimeoutException extends ResumeBusinessException {
+    private static final long serialVersionUID = 3482297430811562304L;
+
+    public ExtractionTimeoutException(String message, Throwable cause) {
+        super(message, cause, HttpStatus.GATEWAY_TIMEOUT, ErrorCodes.RESUME_EXTRACTION_TIMEOUT);
+    }
+}
@@ -55,6 +55,57 @@ public class GlobalExceptionHandler {
             HttpStatus.BAD_REQUEST, ErrorCodes.RESUME_INVALID, request);
     }
     
+    @ExceptionHandler(InvalidCallbackUrlException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCallbackUrl(InvalidCallbackUrlException ex, WebRequest request) {
+        LOGGER.warn("Callback URL rejected - correlationId: {}, message: {}", 
+            CorrelationIdUtils.getCorrelationId(), ex.getMessage());
+            
+        String message = messageService.getMessage("error.validation.callback_url_invalid", new Object[]{ex.getMessage()});
+        return buildErrorResponse("Invalid Callback URL", message, 
+            HttpStatus.BAD_REQUEST, ErrorCodes.REQUEST_INVALID, request);
+    }
+    
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLarge(BatchTooLargeException ex, WebRequest request) {
+        LOGGER.warn("Batch too large - correlationId: {}, message: {}", 
+            CorrelationIdUtils.getCorrelationId(), ex.getMessage());
+            
+        String message = messageService.getMessage("error.validation.batch_too_large",
+            new Object[]{ex.getSelected(), ex.getMaxItems()});
+        return buildErrorResponse("Batch Too Large", message, 
+            HttpStatus.BAD_REQUEST, ErrorCodes.REQUEST_INVALID, request);
+    }
+    
+    @ExceptionHandler(ExtractionOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleExtractionOverloaded(ExtractionOverloadedException ex, WebRequest request) {
+        LOGGER.warn("Text extraction overloaded - correlationId: {}, message: {}", 
+            CorrelationIdUtils.getCorrelationId(), ex.getMessage());
+            
+        String message = messageService.getMessage("error.resume.extraction_overloaded", new Object[]{ex.getMessage()});
+        return buildErrorResponse("Service Unavailable", message, 
+            HttpStatus.SERVICE_UNAVAILABLE, ErrorCodes.RESUME_EXTRACTION_OVERLOADED, request);
+    }
+    
+    @ExceptionHandler(ExtractionTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleExtractionTimeout(ExtractionTimeoutException ex, WebRequest request) {
+        LOGGER.warn("Text extraction timed out - correlationId: {}, message: {}", 
+            CorrelationIdUtils.getCorrelationId(), ex.getMessage());
+            
+        String message = messageService.getMessage("error.resume.extraction_timeout", new Object[]{ex.getMessage()});
+        return buildErrorResponse("Extraction Timeout", message, 
+            HttpStatus.GATEWAY_TIMEOUT, ErrorCodes.RESUME_EXTRACTION_TIMEOUT, request);
+    }
+    
+    @ExceptionHandler(DocumentQuarantinedException.class)
+    public ResponseEntity<ErrorResponse> handleDocumentQuarantined(DocumentQuarantinedException ex, WebRequest request) {
+        LOGGER.warn("Quarantined document rejected - correlationId: {}, message: {}", 
+            CorrelationIdUtils.getCorrelationId(), ex.getMessage());
+            
+        String message = messageService.getMessage("error.resume.quarantined", new Object[]{ex.getMessage()});
+        return buildErrorResponse("Unprocessable Resume", message, 
+            HttpStatus.UNPROCESSABLE_ENTITY, ErrorCodes.RESUME_QUARANTINED, request);
+    }
+    
     // === Storage Related Exceptions ===
 
     @ExceptionHandler({ResumeStorageException.class, StorageException.class})
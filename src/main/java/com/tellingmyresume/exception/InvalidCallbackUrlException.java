@@ -0,0 +1,16 @@
+package com.tellingmyresume.exception;
+
+import com.tellingmyresume.constants.ErrorCodes;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCallbackUrlException extends ValidationBusinessException {
+    private static final long serialVersionUID = 4163094722375617010L;
+
+    public InvalidCallbackUrlException(String message) {
+        super(message, HttpStatus.BAD_REQUEST, ErrorCodes.REQUEST_INVALID);
+    }
+
+    public InvalidCallbackUrlException(String message, Throwable cause) {
+        super(message, cause, HttpStatus.BAD_REQUEST, ErrorCodes.REQUEST_INVALID);
+    }
+}
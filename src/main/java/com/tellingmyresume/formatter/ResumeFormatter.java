@@ -1,31 +1,332 @@
 package com.tellingmyresume.formatter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
 import org.springframework.stereotype.Service;
 
 @Service
 public class ResumeFormatter {
 
+    private enum Block { NONE, PARAGRAPH, UNORDERED_LIST, ORDERED_LIST }
+
     /**
-     * Formata o currículo como uma string com quebras de linha e títulos.
+     * Formata o currículo (Markdown gerado pela IA) como HTML.
      * @param resumeContent O conteúdo do currículo a ser formatado.
-     * @return O currículo formatado como texto.
+     * @return O currículo formatado como HTML.
      */
     public static String formatResume(String resumeContent) {
-        // Aqui você pode adicionar mais lógicas de formatação conforme necessário
-        return resumeContent.replace("\n", "<br>")
-                            .replace("**", "<strong>")
-                            .replace("* ", "<li>");
+        if (resumeContent == null) {
+            return "";
+        }
+        StringBuilderWriter writer = new StringBuilderWriter(resumeContent.length() + resumeContent.length() / 4);
+        try {
+            renderMarkdown(resumeContent, writer);
+        } catch (IOException e) {
+            // Escrita em memória não lança IOException
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Converte o Markdown em HTML numa única passada, linha a linha, escrevendo direto no {@code Writer}.
+     * Suporta títulos, parágrafos, listas com marcadores e numeradas, linhas horizontais, negrito,
+     * itálico e código. Todo o texto é escapado e as tags sempre saem balanceadas; marcadores
+     * sem fechamento são mantidos como texto.
+     * @param markdown O texto em Markdown.
+     * @param out O destino do HTML.
+     */
+    public static void renderMarkdown(String markdown, Writer out) throws IOException {
+        Block block = Block.NONE;
+        int length = markdown.length();
+        int position = 0;
+        while (position < length) {
+            int newline = markdown.indexOf('\n', position);
+            int end = newline < 0 ? length : newline;
+            int lineEnd = end > position && markdown.charAt(end - 1) == '\r' ? end - 1 : end;
+            block = renderLine(markdown, position, lineEnd, block, out);
+            position = end + 1;
+        }
+        closeBlock(block, out);
+    }
+
+    private static Block renderLine(String text, int start, int end, Block block, Writer out) throws IOException {
+        while (start < end && (text.charAt(start) == ' ' || text.charAt(start) == '\t')) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            closeBlock(block, out);
+            return Block.NONE;
+        }
+
+        char first = text.charAt(start);
+        int headingLevel = headingLevel(text, start, end);
+        if (headingLevel > 0) {
+            closeBlock(block, out);
+            out.write("<h" + headingLevel + ">");
+            renderInline(text, start + headingLevel + 1, end, out);
+            out.write("</h" + headingLevel + ">");
+            return Block.NONE;
+        }
+        if (isHorizontalRule(text, start, end)) {
+            closeBlock(block, out);
+            out.write("<hr>");
+            return Block.NONE;
+        }
+        if ((first == '*' || first == '-' || first == '+') && start + 1 < end && text.charAt(start + 1) == ' ') {
+            return renderListItem(text, start + 2, end, block, Block.UNORDERED_LIST, out);
+        }
+        int orderedContent = orderedItemContent(text, start, end);
+        if (orderedContent > 0) {
+            return renderListItem(text, orderedContent, end, block, Block.ORDERED_LIST, out);
+        }
+
+        if (block == Block.PARAGRAPH) {
+            out.write("<br>");
+        } else {
+            closeBlock(block, out);
+            out.write("<p>");
+        }
+        renderInline(text, start, end, out);
+        return Block.PARAGRAPH;
+    }
+
+    private static Block renderListItem(String text, int start, int end, Block block, Block list, Writer out)
+            throws IOException {
+        if (block != list) {
+            closeBlock(block, out);
+            out.write(list == Block.UNORDERED_LIST ? "<ul>" : "<ol>");
+        }
+        out.write("<li>");
+        renderInline(text, start, end, out);
+        out.write("</li>");
+        return list;
+    }
+
+    private static void closeBlock(Block block, Writer out) throws IOException {
+        switch (block) {
+            case PARAGRAPH -> out.write("</p>");
+            case UNORDERED_LIST -> out.write("</ul>");
+            case ORDERED_LIST -> out.write("</ol>");
+            case NONE -> { }
+        }
+    }
+
+    private static int headingLevel(String text, int start, int end) {
+        int level = 0;
+        while (start + level < end && text.charAt(start + level) == '#' && level < 7) {
+            level++;
+        }
+        return level >= 1 && level <= 6 && start + level < end && text.charAt(start + level) == ' ' ? level : 0;
+    }
+
+    private static boolean isHorizontalRule(String text, int start, int end) {
+        char marker = text.charAt(start);
+        if ((marker != '-' && marker != '*' && marker != '_') || end - start < 3) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c != marker && c != ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Limpa caracteres especiais do conteúdo do currículo.
+     * Para um item numerado ("1. texto"), retorna a posição onde começa o texto; senão, -1.
+     */
+    private static int orderedItemContent(String text, int start, int end) {
+        int i = start;
+        while (i < end && i - start < 9 && Character.isDigit(text.charAt(i))) {
+            i++;
+        }
+        if (i == start || i + 1 >= end || (text.charAt(i) != '.' && text.charAt(i) != ')') || text.charAt(i + 1) != ' ') {
+            return -1;
+        }
+        return i + 2;
+    }
+
+    private static void renderInline(String text, int start, int end, Writer out) throws IOException {
+        // Trechos sem marcadores são escritos de uma vez; só *, _ e ` interrompem o trecho
+        int plainStart = start;
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c != '*' && c != '_' && c != '`') {
+                i++;
+                continue;
+            }
+            int next = renderMarker(text, i, end, c, plainStart, out);
+            if (next > i) {
+                plainStart = next;
+                i = next;
+            } else {
+                i++;
+            }
+        }
+        escape(text, plainStart, end, out);
+    }
+
+    /**
+     * Se houver um marcador com par em {@code index}, escreve o texto pendente e o elemento,
+     * retornando a posição após o fechamento; senão retorna {@code index} e nada é escrito.
+     */
+    private static int renderMarker(String text, int index, int end, char c, int plainStart, Writer out)
+            throws IOException {
+        if (c == '`') {
+            int close = indexOf(text, "`", index + 1, end);
+            if (close <= index + 1) {
+                return index;
+            }
+            escape(text, plainStart, index, out);
+            out.write("<code>");
+            escape(text, index + 1, close, out);
+            out.write("</code>");
+            return close + 1;
+        }
+        if (index + 1 < end && text.charAt(index + 1) == c) {
+            int close = indexOf(text, c == '*' ? "**" : "__", index + 2, end);
+            if (close <= index + 2) {
+                return index;
+            }
+            escape(text, plainStart, index, out);
+            out.write("<strong>");
+            renderInline(text, index + 2, close, out);
+            out.write("</strong>");
+            return close + 2;
+        }
+        int close = opensEmphasis(text, index, end) ? closingEmphasis(text, index + 1, end, c) : -1;
+        if (close < 0) {
+            return index;
+        }
+        escape(text, plainStart, index, out);
+        out.write("<em>");
+        renderInline(text, index + 1, close, out);
+        out.write("</em>");
+        return close + 1;
+    }
+
+    /**
+     * Busca restrita à linha atual, para que um marcador sem par não percorra o resto do documento.
+     */
+    private static int indexOf(String text, String marker, int from, int end) {
+        int limit = end - marker.length();
+        for (int i = from; i <= limit; i++) {
+            if (text.startsWith(marker, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean opensEmphasis(String text, int index, int end) {
+        // "snake_case" e "2 * 3" não abrem itálico
+        boolean afterWord = index > 0 && Character.isLetterOrDigit(text.charAt(index - 1));
+        return index + 1 < end && !Character.isWhitespace(text.charAt(index + 1))
+                && !(text.charAt(index) == '_' && afterWord);
+    }
+
+    private static int closingEmphasis(String text, int from, int end, char marker) {
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == marker && !Character.isWhitespace(text.charAt(i - 1))
+                    && (marker != '_' || i + 1 >= end || !Character.isLetterOrDigit(text.charAt(i + 1)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void escape(String text, int start, int end, Writer out) throws IOException {
+        int plainStart = start;
+        for (int i = start; i < end; i++) {
+            String replacement = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.write(text, plainStart, i - plainStart);
+                out.write(replacement);
+                plainStart = i + 1;
+            }
+        }
+        out.write(text, plainStart, end - plainStart);
+    }
+
+    /**
+     * Limpa caracteres especiais do conteúdo do currículo numa única passada: cada sequência de
+     * quebras de linha vira um espaço e caracteres fora do ASCII imprimível são removidos.
      * @param resumeContent O conteúdo do currículo a ser formatado.
      * @return O conteúdo do currículo com caracteres especiais limpos.
      */
     public static String cleanSpecialCharacters(String resumeContent) {
-        // Substitui quebras de linha e caracteres especiais
-        return resumeContent.replaceAll("[\\n\\r]+", " ")
-                            .replaceAll("[^\\x20-\\x7E]", ""); // Remove caracteres não-ASCII, por exemplo
+        StringBuilder result = new StringBuilder(resumeContent.length());
+        boolean inLineBreak = false;
+        for (int i = 0; i < resumeContent.length(); i++) {
+            char c = resumeContent.charAt(i);
+            if (c == '\n' || c == '\r') {
+                if (!inLineBreak) {
+                    result.append(' ');
+                    inLineBreak = true;
+                }
+                continue;
+            }
+            inLineBreak = false;
+            if (c >= 0x20 && c <= 0x7E) {
+                result.append(c);
+            }
+        }
+        return result.toString();
     }
-}
 
+    /**
+     * Writer em memória sem sincronização: o StringWriter do JDK usa StringBuffer e paga um lock
+     * a cada escrita, o que pesa com as muitas escritas curtas do renderizador.
+     */
+    private static final class StringBuilderWriter extends Writer {
+
+        private final StringBuilder buffer;
+
+        StringBuilderWriter(int capacity) {
+            this.buffer = new StringBuilder(capacity);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            buffer.append(text, offset, offset + length);
+        }
+
+        @Override
+        public void write(String text) {
+            buffer.append(text);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
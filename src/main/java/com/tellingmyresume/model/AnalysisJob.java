@@ -0,0 +1,159 @@
+package com.tellingmyresume.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * Pedido de análise assíncrona persistido no banco, para que a fila sobreviva a reinícios.
+ */
+@Entity
+@Table(indexes = @Index(name = "ix_analysis_job_status_created", columnList = "status, createdAt"))
+public class AnalysisJob {
+
+    public static final int ERROR_MESSAGE_MAX_LENGTH = 2000;
+
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    private String aiProvider;
+
+    private String callbackUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AnalysisJobStatus status;
+
+    private String resultProvider;
+
+    @Lob
+    private String result;
+
+    @Column(length = ERROR_MESSAGE_MAX_LENGTH)
+    private String errorMessage;
+
+    private int attempts;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    public AnalysisJob() {}
+
+    public AnalysisJob(String fileName, String aiProvider, String callbackUrl) {
+        this.id = UUID.randomUUID().toString();
+        this.fileName = fileName;
+        this.aiProvider = aiProvider;
+        this.callbackUrl = callbackUrl;
+        this.status = AnalysisJobStatus.PENDING;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getAiProvider() {
+        return aiProvider;
+    }
+
+    public void setAiProvider(String aiProvider) {
+        this.aiProvider = aiProvider;
+    }
+
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    public void setCallbackUrl(String callbackUrl) {
+        this.callbackUrl = callbackUrl;
+    }
+
+    public AnalysisJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AnalysisJobStatus status) {
+        this.status = status;
+    }
+
+    public String getResultProvider() {
+        return resultProvider;
+    }
+
+    public void setResultProvider(String resultProvider) {
+        this.resultProvider = resultProvider;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
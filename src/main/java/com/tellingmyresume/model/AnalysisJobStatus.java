@@ -0,0 +1,5 @@
+package com.tellingmyresume.model;
+
+public enum AnalysisJobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
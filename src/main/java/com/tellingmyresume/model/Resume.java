@@ -5,10 +5,16 @@ import java.time.LocalDateTime;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "ux_resume_file_name", columnList = "fileName", unique = true),
+    @Index(name = "ix_resume_content_checksum", columnList = "contentChecksum")
+})
 public class Resume {
 
 	@Id
@@ -17,19 +23,18 @@ public class Resume {
 
     private LocalDateTime createdAt = LocalDateTime.now();
     
+    @Column(nullable = false)
     private String fileName;
     
     private String contentType;
     
-    @Lob
-    private byte[] content;
+    private String contentChecksum;
     
     public Resume() {}
     
-    public Resume(String fileName, String contentType, byte[] content) {
+    public Resume(String fileName, String contentType) {
         this.fileName = fileName;
         this.contentType = contentType;
-        this.content = content;
     }
     
 	public Long getId() {
@@ -65,12 +70,12 @@ public class Resume {
         this.contentType = contentType;
     }
     
-    public byte[] getContent() {
-        return content;
+    public String getContentChecksum() {
+        return contentChecksum;
     }
     
-    public void setContent(byte[] content) {
-        this.content = content;
+    public void setContentChecksum(String contentChecksum) {
+        this.contentChecksum = contentChecksum;
     }
 }
 
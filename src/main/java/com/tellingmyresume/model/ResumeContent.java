@@ -0,0 +1,61 @@
+package com.tellingmyresume.model;
+
+import java.sql.Blob;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+
+/**
+ * Conteúdo binário de um currículo, mantido em tabela própria para que consultas
+ * de metadados sobre {@link Resume} nunca carreguem o documento.
+ */
+@Entity
+public class ResumeContent {
+
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "resume_id")
+    private Resume resume;
+
+    @Lob
+    private Blob data;
+
+    public ResumeContent() {}
+
+    public ResumeContent(Resume resume, Blob data) {
+        this.resume = resume;
+        this.data = data;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Resume getResume() {
+        return resume;
+    }
+
+    public void setResume(Resume resume) {
+        this.resume = resume;
+    }
+
+    public Blob getData() {
+        return data;
+    }
+
+    public void setData(Blob data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,59 @@
+package com.tellingmyresume.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+
+/**
+ * Texto extraído de um currículo, mantido em tabela própria como {@link ResumeContent}:
+ * listagens e consultas de existência sobre {@link Resume} não carregam o texto.
+ */
+@Entity
+public class ResumeText {
+
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "resume_id")
+    private Resume resume;
+
+    @Lob
+    private String text;
+
+    public ResumeText() {}
+
+    public ResumeText(Resume resume, String text) {
+        this.resume = resume;
+        this.text = text;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Resume getResume() {
+        return resume;
+    }
+
+    public void setResume(Resume resume) {
+        this.resume = resume;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+}
@@ -0,0 +1,62 @@
+package com.tellingmyresume.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tellingmyresume.model.AnalysisJob;
+import com.tellingmyresume.model.AnalysisJobStatus;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, String> {
+
+	@Query("select j.id from AnalysisJob j where j.status = :status order by j.createdAt")
+	List<String> findIdsByStatus(@Param("status") AnalysisJobStatus status, Pageable pageable);
+
+	/**
+	 * Reivindica o job para um worker: só uma instância consegue passar de PENDING para RUNNING.
+	 */
+	@Modifying
+	@Transactional
+	@Query("update AnalysisJob j set j.status = com.tellingmyresume.model.AnalysisJobStatus.RUNNING, "
+			+ "j.startedAt = :now, j.attempts = j.attempts + 1 "
+			+ "where j.id = :id and j.status = com.tellingmyresume.model.AnalysisJobStatus.PENDING")
+	int claim(@Param("id") String id, @Param("now") LocalDateTime now);
+
+	/**
+	 * Devolve à fila os jobs cuja reivindicação expirou (a instância que os executava parou),
+	 * desde que ainda tenham tentativas. Jobs em execução dentro do prazo não são tocados.
+	 */
+	@Modifying
+	@Transactional
+	@Query("update AnalysisJob j set j.status = com.tellingmyresume.model.AnalysisJobStatus.PENDING, j.startedAt = null "
+			+ "where j.status = com.tellingmyresume.model.AnalysisJobStatus.RUNNING and j.startedAt < :cutoff "
+			+ "and j.attempts < :maxAttempts")
+	int requeueExpired(@Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts);
+
+	@Modifying
+	@Transactional
+	@Query("update AnalysisJob j set j.status = com.tellingmyresume.model.AnalysisJobStatus.FAILED, "
+			+ "j.errorMessage = :message, j.completedAt = :now "
+			+ "where j.status = com.tellingmyresume.model.AnalysisJobStatus.RUNNING and j.startedAt < :cutoff "
+			+ "and j.attempts >= :maxAttempts")
+	int failExpired(@Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts,
+			@Param("message") String message, @Param("now") LocalDateTime now);
+
+	/**
+	 * Encerra o job como falho sem regravar a entidade, para quando o resultado não pôde ser salvo.
+	 */
+	@Modifying
+	@Transactional
+	@Query("update AnalysisJob j set j.status = com.tellingmyresume.model.AnalysisJobStatus.FAILED, "
+			+ "j.errorMessage = :message, j.completedAt = :now "
+			+ "where j.id = :id and j.status = com.tellingmyresume.model.AnalysisJobStatus.RUNNING")
+	int markFailed(@Param("id") String id, @Param("message") String message, @Param("now") LocalDateTime now);
+}
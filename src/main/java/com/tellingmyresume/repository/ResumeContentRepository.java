@@ -0,0 +1,23 @@
+package com.tellingmyresume.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tellingmyresume.model.ResumeContent;
+
+@Repository
+public interface ResumeContentRepository extends JpaRepository<ResumeContent, Long> {
+
+	@Query("select c from ResumeContent c where c.resume.fileName = :fileName")
+	Optional<ResumeContent> findByResumeFileName(@Param("fileName") String fileName);
+
+	@Modifying
+	@Query("delete from ResumeContent c where c.id = :resumeId")
+	int deleteByResumeId(@Param("resumeId") Long resumeId);
+
+}
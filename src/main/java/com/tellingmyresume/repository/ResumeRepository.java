@@ -1,6 +1,13 @@
 package com.tellingmyresume.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.tellingmyresume.model.Resume;
@@ -10,5 +17,15 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
 	
 	Resume findByFileName(String fileName);
 	boolean existsByFileName(String fileName);
+	boolean existsByContentChecksum(String contentChecksum);
+	
+	Optional<ResumeSummary> findSummaryByFileName(String fileName);
+	
+	@Query("select r.fileName from Resume r where r.createdAt >= :since order by r.createdAt")
+	List<String> findFileNamesCreatedSince(@Param("since") LocalDateTime since);
+	
+	@Modifying
+	@Query("delete from Resume r where r.id = :id")
+	int deleteResumeById(@Param("id") Long id);
 	
 }
@@ -0,0 +1,19 @@
+package com.tellingmyresume.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção com os metadados de um currículo, sem texto extraído nem conteúdo binário.
+ */
+public interface ResumeSummary {
+
+    Long getId();
+
+    String getFileName();
+
+    String getContentType();
+
+    String getContentChecksum();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,33 @@
+package com.tellingmyresume.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tellingmyresume.model.ResumeText;
+
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, Long> {
+
+	@Query("select t.text from ResumeText t where t.resume.fileName = :fileName")
+	Optional<String> findTextByFileName(@Param("fileName") String fileName);
+
+	/**
+	 * Grava ou substitui o texto de um currículo num único comando, sem a corrida entre
+	 * consultar e inserir quando duas leituras extraem o mesmo arquivo ao mesmo tempo.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "merge into resume_text (resume_id, text) key (resume_id) values (:resumeId, :text)", nativeQuery = true)
+	int upsertText(@Param("resumeId") Long resumeId, @Param("text") String text);
+
+	@Modifying
+	@Query("delete from ResumeText t where t.id = :resumeId")
+	int deleteByResumeId(@Param("resumeId") Long resumeId);
+
+}
@@ -1,15 +1,31 @@
 package com.tellingmyresume.service;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
 import com.tellingmyresume.exception.AIServiceException;
 
+import reactor.core.publisher.Flux;
+
 public interface AIAnalysisService {
     
     String generateResume(String resumeContent) throws AIServiceException;
     
     CompletableFuture<String> generateResumeAsync(String resumeContent);
     
+    /**
+     * Gera o resumo de forma incremental, emitindo cada trecho do texto assim que o provedor o produz.
+     */
+    Flux<String> generateResumeStream(String resumeContent);
+    
+    /**
+     * Faz uma requisição leve ao provedor, sem gerar texto, para confirmar que ele está respondendo.
+     * 
+     * @param timeout Tempo máximo de espera pela resposta.
+     * @throws AIServiceException Se o provedor não responder com sucesso dentro do prazo.
+     */
+    void probe(Duration timeout) throws AIServiceException;
+    
     String getProviderName();
     
     boolean isServiceAvailable();
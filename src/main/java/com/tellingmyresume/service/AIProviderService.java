@@ -3,7 +3,9 @@ package com.tellingmyresume.service;
 import java.util.List;
 import java.util.Map;
 
+import com.tellingmyresume.dto.request.RoutingWeightsRequest;
 import com.tellingmyresume.dto.response.ProviderStatusResponse;
+import com.tellingmyresume.dto.response.RoutingStatusResponse;
 
 public interface AIProviderService {
     
@@ -16,4 +18,8 @@ public interface AIProviderService {
     String getPreferredProvider();
     
     boolean isProviderAvailable(String providerName);
+    
+    RoutingStatusResponse getRoutingStatus();
+    
+    RoutingStatusResponse updateRoutingWeights(RoutingWeightsRequest request);
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tellingmyresume.exception.GenericAIServiceException;
+import com.tellingmyresume.utils.HashUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache de resultados de análise endereçado pelo conteúdo do currículo.
+ * A chave combina o SHA-256 do texto extraído, o provedor de IA e a versão do prompt,
+ * de modo que o mesmo currículo não gera uma nova chamada paga enquanto a entrada for válida.
+ * Requisições simultâneas para a mesma chave compartilham uma única chamada em andamento;
+ * quem aguarda a chamada de outra thread desiste após {@code follower-timeout}.
+ */
+@Service
+public class AnalysisCacheService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnalysisCacheService.class);
+
+    static final String CACHE_NAME = "resumeAnalysis";
+
+    private final Cache<AnalysisCacheKey, String> cache;
+    /** Limitado como o cache de análises: uma associação não precisa viver mais que as entradas que aponta. */
+    private final Cache<String, String> contentHashByFileName;
+    private final Map<AnalysisCacheKey, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final String promptVersion;
+    private final Duration followerTimeout;
+    private final Counter coalescedRequests;
+
+    public AnalysisCacheService(@Value("${analysis.cache.max-size:1000}") long maxSize,
+                                @Value("${analysis.cache.ttl:24h}") Duration ttl,
+                                @Value("${analysis.cache.prompt-version:v1}") String promptVersion,
+                                @Value("${analysis.cache.follower-timeout:90s}") Duration followerTimeout,
+                                MeterRegistry meterRegistry) {
+        this.promptVersion = promptVersion;
+        this.followerTimeout = followerTimeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.contentHashByFileName = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.coalescedRequests = Counter.builder("resume.analysis.coalesced")
+                .description("Análises atendidas por uma chamada já em andamento para o mesmo conteúdo e provedor")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cria a chave de cache para o conteúdo e provedor informados, registrando
+     * a associação com o arquivo para permitir invalidação posterior.
+     *
+     * @param fileName O nome do arquivo do currículo.
+     * @param resumeContent O texto extraído do currículo.
+     * @param aiProvider O provedor de IA.
+     * @return A chave de cache correspondente.
+     */
+    public AnalysisCacheKey keyFor(String fileName, String resumeContent, String aiProvider) {
+        String contentHash = HashUtils.sha256Hex(resumeContent);
+        contentHashByFileName.put(fileName, contentHash);
+        return new AnalysisCacheKey(contentHash, aiProvider, promptVersion);
+    }
+
+    public Optional<String> get(AnalysisCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(AnalysisCacheKey key, String analysis) {
+        cache.put(key, analysis);
+    }
+
+    /**
+     * Retorna a análise em cache ou a obtém do {@code loader}. Se outra thread já estiver
+     * carregando a mesma chave, aguarda o resultado dela em vez de repetir a chamada ao provedor.
+     *
+     * @param key A chave de cache.
+     * @param loader A chamada ao provedor, executada apenas pela primeira requisição.
+     * @param cacheable Critério para armazenar o resultado (respostas de fallback não são cacheadas).
+     * @return A análise, compartilhada por todas as requisições simultâneas.
+     * @throws GenericAIServiceException Se a espera pela chamada de outra thread estourar o prazo
+     *                                   ou for interrompida.
+     */
+    public String getOrLoad(AnalysisCacheKey key, Supplier<String> loader, Predicate<String> cacheable) {
+        String cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedRequests.increment();
+            return await(existing, key.aiProvider());
+        }
+
+        try {
+            // A chamada anterior pode ter terminado entre a consulta ao cache e o registro
+            String analysis = cache.getIfPresent(key);
+            if (analysis == null) {
+                analysis = loader.get();
+                if (cacheable.test(analysis)) {
+                    cache.put(key, analysis);
+                }
+            }
+            call.complete(analysis);
+            return analysis;
+        } catch (Throwable e) {
+            // Qualquer falha, inclusive Error, precisa liberar quem está aguardando esta chamada
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private String await(CompletableFuture<String> call, String aiProvider) {
+        try {
+            return call.get(followerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new GenericAIServiceException(aiProvider,
+                    "Tempo limite excedido aguardando análise em andamento com " + aiProvider, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenericAIServiceException(aiProvider, "Interrompido aguardando análise em andamento", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new GenericAIServiceException(aiProvider,
+                    "Falha na análise em andamento com " + aiProvider + ": " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Remove todas as análises em cache associadas ao conteúdo do arquivo informado.
+     *
+     * @param fileName O nome do arquivo do currículo.
+     */
+    public void invalidate(String fileName) {
+        String contentHash = contentHashByFileName.asMap().remove(fileName);
+        if (contentHash == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.contentHash().equals(contentHash));
+        LOGGER.debug("Análises em cache invalidadas para o arquivo {}", fileName);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public record AnalysisCacheKey(String contentHash, String aiProvider, String promptVersion) {
+    }
+}
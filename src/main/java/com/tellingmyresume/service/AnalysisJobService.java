@@ -0,0 +1,15 @@
+package com.tellingmyresume.service;
+
+import java.util.Optional;
+
+import com.tellingmyresume.dto.request.AnalysisJobRequest;
+import com.tellingmyresume.dto.response.AnalysisJobResponse;
+import com.tellingmyresume.exception.InvalidCallbackUrlException;
+import com.tellingmyresume.exception.ResumeNotFoundException;
+
+public interface AnalysisJobService {
+
+    AnalysisJobResponse submitJob(AnalysisJobRequest request) throws ResumeNotFoundException, InvalidCallbackUrlException;
+
+    Optional<AnalysisJobResponse> getJob(String jobId);
+}
@@ -0,0 +1,210 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.tellingmyresume.dto.response.AnalysisJobResponse;
+import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
+import com.tellingmyresume.exception.InvalidCallbackUrlException;
+import com.tellingmyresume.model.AnalysisJob;
+import com.tellingmyresume.model.AnalysisJobStatus;
+import com.tellingmyresume.repository.AnalysisJobRepository;
+
+/**
+ * Consome a fila de jobs de análise persistida no banco. A cada ciclo reivindica até
+ * {@code worker-count} jobs pendentes, executa cada um no executor de tarefas e, ao final,
+ * grava o resultado e notifica a URL de callback, se houver. A URL é validada de novo pelo
+ * {@link CallbackUrlPolicy} antes do envio, e o cliente usado não segue redirecionamentos.
+ *
+ * <p>A reivindicação vale por {@code lease-timeout}: só jobs em execução há mais tempo que isso,
+ * cuja instância presumivelmente parou, voltam para a fila, até {@code max-attempts} tentativas.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.jobs.enabled", havingValue = "true", matchIfMissing = true)
+public class AnalysisJobWorker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnalysisJobWorker.class);
+
+    private final AnalysisJobRepository jobRepository;
+    private final ResumeAnalysisService resumeAnalysisService;
+    private final RestTemplate restTemplate;
+    private final CallbackUrlPolicy callbackUrlPolicy;
+    private final Executor executor;
+    private final Semaphore workerSlots;
+    private final int maxAttempts;
+    private final Duration leaseTimeout;
+
+    public AnalysisJobWorker(AnalysisJobRepository jobRepository,
+                             ResumeAnalysisService resumeAnalysisService,
+                             @Qualifier("callbackRestTemplate") RestTemplate restTemplate,
+                             CallbackUrlPolicy callbackUrlPolicy,
+                             @Qualifier("taskExecutor") Executor executor,
+                             @Value("${analysis.jobs.worker-count:4}") int workerCount,
+                             @Value("${analysis.jobs.max-attempts:3}") int maxAttempts,
+                             @Value("${analysis.jobs.lease-timeout:15m}") Duration leaseTimeout) {
+        this.jobRepository = jobRepository;
+        this.resumeAnalysisService = resumeAnalysisService;
+        this.restTemplate = restTemplate;
+        this.callbackUrlPolicy = callbackUrlPolicy;
+        this.executor = executor;
+        this.workerSlots = new Semaphore(workerCount);
+        this.maxAttempts = maxAttempts;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * Jobs cuja reivindicação expirou voltam para a fila; os que já esgotaram as tentativas
+     * são encerrados como falhos. Jobs de outras instâncias ainda dentro do prazo não são tocados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${analysis.jobs.lease-check-interval:60000}")
+    public void recoverExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(leaseTimeout);
+        int requeued = jobRepository.requeueExpired(cutoff, maxAttempts);
+        int failed = jobRepository.failExpired(cutoff, maxAttempts,
+                "Job interrompido após " + maxAttempts + " tentativas", now);
+        if (requeued > 0 || failed > 0) {
+            LOGGER.info("Jobs de análise interrompidos: {} devolvidos à fila, {} encerrados por excesso de tentativas",
+                    requeued, failed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analysis.jobs.poll-interval:1000}")
+    public void pollPendingJobs() {
+        int freeSlots = workerSlots.availablePermits();
+        if (freeSlots == 0) {
+            return;
+        }
+
+        List<String> jobIds = jobRepository.findIdsByStatus(AnalysisJobStatus.PENDING, PageRequest.of(0, freeSlots));
+        for (String jobId : jobIds) {
+            if (!workerSlots.tryAcquire()) {
+                return;
+            }
+            if (jobRepository.claim(jobId, LocalDateTime.now()) == 0) {
+                // Outro worker reivindicou o job primeiro
+                workerSlots.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(jobId);
+                    } finally {
+                        workerSlots.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                workerSlots.release();
+                jobRepository.findById(jobId).ifPresent(job -> {
+                    // O job nem começou: a reivindicação não conta como tentativa
+                    job.setStatus(AnalysisJobStatus.PENDING);
+                    job.setStartedAt(null);
+                    job.setAttempts(job.getAttempts() - 1);
+                    jobRepository.save(job);
+                });
+                return;
+            }
+        }
+    }
+
+    void process(String jobId) {
+        AnalysisJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        try {
+            ResumeAnalysisResponse response = job.getAiProvider() == null
+                    ? resumeAnalysisService.analyzeResumeWithBestAvailable(job.getFileName())
+                    : resumeAnalysisService.analyzeResumeWithProvider(job.getFileName(), job.getAiProvider());
+
+            job.setResultProvider(response.getAiProvider());
+            if (response.isSuccess()) {
+                job.setStatus(AnalysisJobStatus.COMPLETED);
+                job.setResult(response.getAnalysis());
+            } else {
+                job.setStatus(AnalysisJobStatus.FAILED);
+                job.setErrorMessage(truncate(response.getAnalysis()));
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Falha ao executar o job de análise {}: {}", jobId, e.getMessage());
+            job.setStatus(AnalysisJobStatus.FAILED);
+            job.setErrorMessage(truncate(e.getMessage()));
+        }
+
+        job.setCompletedAt(LocalDateTime.now());
+        if (!finish(job)) {
+            return;
+        }
+        notifyCallback(job);
+    }
+
+    /**
+     * Grava o resultado do job. Se a gravação falhar, o job é encerrado como falho por uma
+     * atualização simples, para não ficar preso em RUNNING; se nem isso for possível, a
+     * reivindicação expira e ele volta para a fila.
+     *
+     * @return {@code true} se o estado final foi gravado.
+     */
+    private boolean finish(AnalysisJob job) {
+        String message;
+        try {
+            jobRepository.save(job);
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao gravar o resultado do job de análise {}: {}", job.getId(), e.getMessage());
+            message = truncate("Falha ao gravar o resultado: " + e.getMessage());
+        }
+
+        try {
+            jobRepository.markFailed(job.getId(), message, job.getCompletedAt());
+        } catch (RuntimeException markFailure) {
+            LOGGER.error("Falha ao encerrar o job de análise {}: {}", job.getId(), markFailure.getMessage());
+            return false;
+        }
+        job.setStatus(AnalysisJobStatus.FAILED);
+        job.setResult(null);
+        job.setErrorMessage(message);
+        return true;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= AnalysisJob.ERROR_MESSAGE_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, AnalysisJob.ERROR_MESSAGE_MAX_LENGTH);
+    }
+
+    private void notifyCallback(AnalysisJob job) {
+        if (job.getCallbackUrl() == null) {
+            return;
+        }
+        try {
+            restTemplate.postForEntity(callbackUrlPolicy.validate(job.getCallbackUrl()),
+                    AnalysisJobResponse.from(job), Void.class);
+        } catch (InvalidCallbackUrlException e) {
+            LOGGER.warn("Callback do job {} recusado: {}", job.getId(), e.getMessage());
+        } catch (RestClientException e) {
+            LOGGER.warn("Falha ao notificar o callback do job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.tellingmyresume.service;
+
+import com.tellingmyresume.dto.request.BatchAnalysisRequest;
+import com.tellingmyresume.dto.response.BatchAnalysisResponse;
+import com.tellingmyresume.exception.AIServiceException;
+
+public interface BatchAnalysisService {
+
+    BatchAnalysisResponse analyzeBatch(BatchAnalysisRequest request) throws AIServiceException;
+}
@@ -0,0 +1,111 @@
+package com.tellingmyresume.service;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tellingmyresume.exception.InvalidCallbackUrlException;
+
+/**
+ * Decide para quais URLs o resultado de um job pode ser enviado, para que o callback não sirva
+ * de ponte até serviços internos (SSRF). O host precisa constar da lista de permitidos
+ * ({@code *.dominio} aceita subdomínios) e todos os endereços para os quais ele resolve precisam
+ * ser públicos: loopback, redes privadas, link-local (inclusive o endpoint de metadados da nuvem)
+ * e multicast são recusados. Com a lista vazia, nenhum callback é aceito.
+ *
+ * <p>A verificação é feita ao enfileirar o job e repetida imediatamente antes do envio, porque
+ * a resolução DNS pode mudar entre os dois momentos.
+ */
+@Component
+public class CallbackUrlPolicy {
+
+    @FunctionalInterface
+    interface HostResolver {
+        InetAddress[] resolve(String host) throws UnknownHostException;
+    }
+
+    private final List<String> allowedHosts;
+    private final HostResolver resolver;
+
+    @Autowired
+    public CallbackUrlPolicy(@Value("${analysis.jobs.callback.allowed-hosts:}") List<String> allowedHosts) {
+        this(allowedHosts, InetAddress::getAllByName);
+    }
+
+    CallbackUrlPolicy(List<String> allowedHosts, HostResolver resolver) {
+        this.allowedHosts = allowedHosts.stream()
+                .map(String::trim)
+                .filter(host -> !host.isEmpty())
+                .map(host -> host.toLowerCase(Locale.ROOT))
+                .toList();
+        this.resolver = resolver;
+    }
+
+    /**
+     * @param callbackUrl A URL informada pelo cliente.
+     * @return A URL validada.
+     * @throws InvalidCallbackUrlException Se a URL não for permitida.
+     */
+    public URI validate(String callbackUrl) throws InvalidCallbackUrlException {
+        URI uri;
+        try {
+            uri = new URI(callbackUrl);
+        } catch (URISyntaxException e) {
+            throw new InvalidCallbackUrlException("URL de callback malformada: " + callbackUrl, e);
+        }
+
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            throw new InvalidCallbackUrlException("URL de callback deve usar http ou https");
+        }
+        if (uri.getHost() == null || uri.getRawUserInfo() != null) {
+            throw new InvalidCallbackUrlException("URL de callback deve informar apenas o host, sem credenciais");
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (!isAllowed(host)) {
+            throw new InvalidCallbackUrlException("Host de callback não permitido: " + host);
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = resolver.resolve(host);
+        } catch (UnknownHostException e) {
+            throw new InvalidCallbackUrlException("Host de callback não encontrado: " + host, e);
+        }
+        for (InetAddress address : addresses) {
+            if (!isPublic(address)) {
+                throw new InvalidCallbackUrlException("Host de callback resolve para endereço não público: " + host);
+            }
+        }
+        return uri;
+    }
+
+    private boolean isAllowed(String host) {
+        return allowedHosts.stream().anyMatch(allowed -> allowed.startsWith("*.")
+                ? host.endsWith(allowed.substring(1))
+                : host.equals(allowed));
+    }
+
+    static boolean isPublic(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet6Address) {
+            // Endereços locais únicos (fc00::/7), o equivalente IPv6 das redes privadas
+            return (bytes[0] & 0xFE) != 0xFC;
+        }
+        // Faixa compartilhada de NAT de operadora (100.64.0.0/10)
+        return !((bytes[0] & 0xFF) == 100 && (bytes[1] & 0xC0) == 64);
+    }
+}
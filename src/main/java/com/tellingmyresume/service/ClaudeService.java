@@ -1,7 +1,16 @@
 package com.tellingmyresume.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,38 +21,71 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 
+import com.tellingmyresume.constants.ApiConstants;
 import com.tellingmyresume.exception.ClaudeServiceException;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import reactor.core.publisher.Flux;
+
 @Service
 public class ClaudeService implements AIAnalysisService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClaudeService.class);
 
+    public static final String RESILIENCE_INSTANCE = "claudeService";
+
     private final AnthropicChatModel chatModel;
+    private final HttpClient httpClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final SystemMessage systemMessage;
 
-    @Value("classpath:/prompts/systempromt.st")
-    private Resource systemPromptResource;
+    @Value("${spring.ai.anthropic.api-key}")
+    private String apiKey;
 
-    public ClaudeService(AnthropicChatModel chatModel) {
+    public ClaudeService(AnthropicChatModel chatModel, HttpClient httpClient,
+                         CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                         @Value("classpath:/prompts/systempromt.st") Resource systemPromptResource) {
         this.chatModel = chatModel;
+        this.httpClient = httpClient;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.systemMessage = loadSystemMessage(systemPromptResource);
+    }
+
+    /**
+     * O prompt de sistema é fixo: lido uma única vez na inicialização e reaproveitado em todas as
+     * chamadas, sempre idêntico e na mesma posição, para que a API possa reutilizar o prefixo.
+     */
+    private static SystemMessage loadSystemMessage(Resource systemPromptResource) {
+        try (InputStream input = systemPromptResource.getInputStream()) {
+            return new SystemMessage(StreamUtils.copyToString(input, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOGGER.error("Falha ao carregar o prompt de sistema do Claude: {}", e.getMessage());
+            return null;
+        }
     }
 
     @Override
+    @CircuitBreaker(name = RESILIENCE_INSTANCE)
+    @Bulkhead(name = RESILIENCE_INSTANCE)
     public String generateResume(String resumeContent) throws ClaudeServiceException {
         if (resumeContent == null || resumeContent.trim().isEmpty()) {
             throw new ClaudeServiceException("Conteúdo do currículo não pode estar vazio");
         }
         
         try {
-            var system = new SystemMessage(systemPromptResource);
-            var user = new UserMessage("Segue currículo: " + resumeContent);
-
-            Prompt prompt = new Prompt(List.of(system, user));
-
-            ChatResponse chatResponse = chatModel.call(prompt);
+            ChatResponse chatResponse = chatModel.call(createPrompt(resumeContent));
             LOGGER.debug("Claude response message type: {}", chatResponse.getResult().getOutput().getMessageType());
 
             String response = chatResponse.getResult().getOutput().getText();
@@ -60,17 +102,63 @@ public class ClaudeService implements AIAnalysisService {
         }
     }
 
+    /**
+     * Versão assíncrona sobre a API de streaming: nenhuma thread fica bloqueada aguardando o Claude,
+     * e o time limiter pode cancelar a chamada ao estourar o prazo.
+     */
     @Override
-    @Async
+    @CircuitBreaker(name = RESILIENCE_INSTANCE)
+    @Bulkhead(name = RESILIENCE_INSTANCE)
+    @TimeLimiter(name = RESILIENCE_INSTANCE)
     public CompletableFuture<String> generateResumeAsync(String resumeContent) {
-        try {
-            String result = generateResume(resumeContent);
-            return CompletableFuture.completedFuture(result);
-        } catch (Exception e) {
-            CompletableFuture<String> future = new CompletableFuture<>();
-            future.completeExceptionally(e);
-            return future;
+        // As anotações já protegem esta chamada; o stream sem operadores evita contar duas vezes
+        return streamChunks(resumeContent)
+                .collect(Collectors.joining())
+                .map(response -> {
+                    if (response.trim().isEmpty()) {
+                        throw new ClaudeServiceException("Resposta vazia recebida do serviço Claude");
+                    }
+                    return response;
+                })
+                .toFuture();
+    }
+
+    /**
+     * As anotações do Resilience4j não acompanham um {@link Flux}, que só executa ao ser assinado:
+     * o circuito e o bulkhead são aplicados como operadores, e a vaga fica ocupada até o stream terminar.
+     */
+    @Override
+    public Flux<String> generateResumeStream(String resumeContent) {
+        return streamChunks(resumeContent)
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE)));
+    }
+
+    private Flux<String> streamChunks(String resumeContent) {
+        if (resumeContent == null || resumeContent.trim().isEmpty()) {
+            return Flux.error(new ClaudeServiceException("Conteúdo do currículo não pode estar vazio"));
+        }
+
+        return Flux.defer(() -> chatModel.stream(createPrompt(resumeContent)))
+                .mapNotNull(ClaudeService::extractText)
+                .filter(text -> !text.isEmpty())
+                .onErrorMap(e -> !(e instanceof ClaudeServiceException), e -> {
+                    LOGGER.error("Erro no streaming da API do Claude: {}", e.getMessage(), e);
+                    return new ClaudeServiceException("Erro ao gerar resumo com Claude: " + e.getMessage(), e);
+                });
+    }
+
+    private Prompt createPrompt(String resumeContent) {
+        var user = new UserMessage("Segue currículo: " + resumeContent);
+
+        return new Prompt(List.of(systemMessage, user));
+    }
+
+    private static String extractText(ChatResponse chatResponse) {
+        if (chatResponse == null || chatResponse.getResult() == null || chatResponse.getResult().getOutput() == null) {
+            return null;
         }
+        return chatResponse.getResult().getOutput().getText();
     }
 
     @Override
@@ -78,10 +166,35 @@ public class ClaudeService implements AIAnalysisService {
         return "Claude";
     }
 
+    /**
+     * Lista um único modelo da API da Anthropic: valida chave e conectividade sem gerar tokens.
+     */
+    @Override
+    public void probe(Duration timeout) throws ClaudeServiceException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ApiConstants.ANTHROPIC_MODELS_URL))
+                .timeout(timeout)
+                .header("x-api-key", apiKey)
+                .header("anthropic-version", ApiConstants.ANTHROPIC_VERSION)
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new ClaudeServiceException("Serviço Claude respondeu HTTP " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new ClaudeServiceException("Erro de conectividade com o serviço Claude: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClaudeServiceException("Verificação do serviço Claude interrompida", e);
+        }
+    }
+
     @Override
     public boolean isServiceAvailable() {
         try {
-            return chatModel != null && systemPromptResource.exists();
+            return chatModel != null && systemMessage != null
+                    && circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE).getState() != State.OPEN;
         } catch (Exception e) {
             LOGGER.warn("Falha ao verificar disponibilidade do serviço Claude: {}", e.getMessage());
             return false;
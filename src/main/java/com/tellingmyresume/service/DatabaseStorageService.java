@@ -1,66 +1,157 @@
 package com.tellingmyresume.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
+import org.hibernate.engine.jdbc.BlobProxy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.tellingmyresume.constants.ErrorMessages;
 import com.tellingmyresume.exception.StorageException;
 import com.tellingmyresume.model.Resume;
+import com.tellingmyresume.model.ResumeContent;
+import com.tellingmyresume.repository.ResumeContentRepository;
 import com.tellingmyresume.repository.ResumeRepository;
+import com.tellingmyresume.repository.ResumeSummary;
+import com.tellingmyresume.repository.ResumeTextRepository;
+import com.tellingmyresume.utils.HashUtils;
 
 @Service
+@ConditionalOnProperty(name = "resume.storage.type", havingValue = "database", matchIfMissing = true)
 public class DatabaseStorageService implements StorageService {
-    
+
     private final ResumeRepository resumeRepository;
-    
-    public DatabaseStorageService(ResumeRepository resumeRepository) {
+    private final ResumeContentRepository resumeContentRepository;
+    private final ResumeTextRepository resumeTextRepository;
+
+    public DatabaseStorageService(ResumeRepository resumeRepository,
+                                  ResumeContentRepository resumeContentRepository,
+                                  ResumeTextRepository resumeTextRepository) {
         this.resumeRepository = resumeRepository;
+        this.resumeContentRepository = resumeContentRepository;
+        this.resumeTextRepository = resumeTextRepository;
     }
-    
+
     @Override
+    @Transactional
     public void save(String fileName, MultipartFile file) throws StorageException {
         try {
             if (file.isEmpty()) {
                 throw new StorageException("Arquivo está vazio");
             }
-            
+
             if (file.getSize() > 10 * 1024 * 1024) { // 10MB
                 throw new StorageException("Arquivo excede o tamanho máximo permitido de 10MB");
             }
-            
-            Resume resume = new Resume(
-                fileName,
-                file.getContentType(),
-                file.getBytes()
-            );
-            
+
+            String checksum;
+            try (InputStream content = file.getInputStream()) {
+                checksum = HashUtils.sha256Hex(content);
+            }
+
+            // O Blob é lido do stream do upload no momento do INSERT, sem cópia intermediária em memória
+            // Um novo upload com o mesmo nome substitui o anterior
+            resumeRepository.findSummaryByFileName(fileName)
+                    .map(ResumeSummary::getId)
+                    .ifPresent(this::deleteById);
+
+            Resume resume = new Resume(fileName, file.getContentType());
+            resume.setContentChecksum(checksum);
             resumeRepository.save(resume);
+
+            try (InputStream content = file.getInputStream()) {
+                ResumeContent resumeContent = new ResumeContent(
+                    resume,
+                    BlobProxy.generateProxy(content, file.getSize())
+                );
+                resumeContentRepository.saveAndFlush(resumeContent);
+            }
         } catch (IOException e) {
             throw new StorageException("Falha ao acessar o conteúdo do arquivo", e);
+        } catch (DataIntegrityViolationException e) {
+            throw new StorageException(ErrorMessages.DATABASE_FILE_EXISTS + fileName, e);
         }
     }
-    
+
     @Override
+    @Transactional(readOnly = true)
     public byte[] read(String fileName) throws StorageException {
-        Resume resume = resumeRepository.findByFileName(fileName);
-        if (resume == null) {
-            throw new StorageException("Arquivo não encontrado: " + fileName);
+        return readStream(fileName, InputStream::readAllBytes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> T readStream(String fileName, ContentReader<T> reader) throws StorageException {
+        ResumeContent resumeContent = resumeContentRepository.findByResumeFileName(fileName)
+                .orElseThrow(() -> new StorageException("Arquivo não encontrado: " + fileName));
+
+        try (InputStream content = resumeContent.getData().getBinaryStream()) {
+            return reader.read(content);
+        } catch (SQLException | IOException e) {
+            throw new StorageException("Falha ao ler o conteúdo do arquivo: " + fileName, e);
         }
-        return resume.getContent();
     }
-    
+
     @Override
     public boolean fileExists(String fileName) {
         return resumeRepository.existsByFileName(fileName);
     }
-    
+
     @Override
+    @Transactional
     public void delete(String fileName) throws StorageException {
-        Resume resume = resumeRepository.findByFileName(fileName);
-        if (resume == null) {
-            throw new StorageException("Arquivo não encontrado para exclusão: " + fileName);
+        Long resumeId = resumeRepository.findSummaryByFileName(fileName)
+                .map(ResumeSummary::getId)
+                .orElseThrow(() -> new StorageException("Arquivo não encontrado para exclusão: " + fileName));
+
+        deleteById(resumeId);
+    }
+
+    @Override
+    public Optional<String> readExtractedText(String fileName) {
+        return resumeTextRepository.findTextByFileName(fileName);
+    }
+
+    @Override
+    public Optional<String> readContentChecksum(String fileName) {
+        return resumeRepository.findSummaryByFileName(fileName).map(ResumeSummary::getContentChecksum);
+    }
+
+    @Override
+    public void saveExtractedText(String fileName, String expectedChecksum, String extractedText)
+            throws StorageException {
+        ResumeSummary summary = resumeRepository.findSummaryByFileName(fileName)
+                .orElseThrow(() -> new StorageException("Arquivo não encontrado: " + fileName));
+        if (!Objects.equals(summary.getContentChecksum(), expectedChecksum)) {
+            // Um novo upload substituiu o arquivo durante a extração: o texto é do conteúdo anterior
+            return;
         }
-        resumeRepository.delete(resume);
+
+        try {
+            resumeTextRepository.upsertText(summary.getId(), extractedText);
+        } catch (DataIntegrityViolationException e) {
+            // Outra leitura gravou o texto primeiro, ou o currículo foi excluído no meio: nada a fazer
+        }
+    }
+
+    @Override
+    public List<String> listFileNamesUploadedSince(LocalDateTime since) {
+        return resumeRepository.findFileNamesCreatedSince(since);
+    }
+
+    private void deleteById(Long resumeId) {
+        // Exclusão em lote por id: nem o texto extraído nem o blob são carregados
+        resumeTextRepository.deleteByResumeId(resumeId);
+        resumeContentRepository.deleteByResumeId(resumeId);
+        resumeRepository.deleteResumeById(resumeId);
     }
-} 
\ No newline at end of file
+}
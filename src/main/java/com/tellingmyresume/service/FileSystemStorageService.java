@@ -0,0 +1,339 @@
+package com.tellingmyresume.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.tellingmyresume.constants.ErrorMessages;
+import com.tellingmyresume.exception.StorageException;
+import com.tellingmyresume.model.Resume;
+import com.tellingmyresume.repository.ResumeRepository;
+import com.tellingmyresume.repository.ResumeSummary;
+import com.tellingmyresume.repository.ResumeTextRepository;
+import com.tellingmyresume.utils.HashUtils;
+
+/**
+ * Armazena o conteúdo dos currículos em disco, endereçado pelo SHA-256 do arquivo,
+ * mantendo apenas os metadados no banco. Os arquivos ficam em diretórios fragmentados
+ * ({@code ab/cd/abcd...}) e são gravados com rename atômico a partir de um arquivo temporário.
+ *
+ * <p>Como o mesmo arquivo pode ser referenciado por vários currículos, gravação e remoção de
+ * um conteúdo são serializadas por um lock do checksum: o upload mantém o lock até sua
+ * transação terminar, e a remoção só acontece após o commit da exclusão, sob o mesmo lock e
+ * depois de confirmar que nenhum currículo passou a referenciar o conteúdo.
+ */
+@Service
+@ConditionalOnProperty(name = "resume.storage.type", havingValue = "filesystem")
+public class FileSystemStorageService implements StorageService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemStorageService.class);
+
+    private static final String TEMP_DIRECTORY = "tmp";
+    private static final long MMAP_THRESHOLD = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeTextRepository resumeTextRepository;
+    private final Path rootPath;
+    private final ReentrantLock[] contentLocks = new ReentrantLock[LOCK_STRIPES];
+
+    public FileSystemStorageService(ResumeRepository resumeRepository,
+                                    ResumeTextRepository resumeTextRepository,
+                                    @Value("${resume.storage.path:./data/resumes}") String storagePath) {
+        this.resumeRepository = resumeRepository;
+        this.resumeTextRepository = resumeTextRepository;
+        this.rootPath = Path.of(storagePath).toAbsolutePath().normalize();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            contentLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void save(String fileName, MultipartFile file) throws StorageException {
+        if (file.isEmpty()) {
+            throw new StorageException("Arquivo está vazio");
+        }
+
+        if (file.getSize() > 10 * 1024 * 1024) { // 10MB
+            throw new StorageException("Arquivo excede o tamanho máximo permitido de 10MB");
+        }
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(Files.createDirectories(rootPath.resolve(TEMP_DIRECTORY)), "upload-", ".part");
+            String checksum = writeTempContent(file, tempFile);
+
+            ReentrantLock lock = lockFor(checksum);
+            lock.lock();
+            // Mantido até o fim da transação, para que uma exclusão concorrente não remova o conteúdo
+            // entre a gravação do arquivo e o commit do novo registro
+            boolean deferred = afterCompletion(Ordered.HIGHEST_PRECEDENCE, committed -> lock.unlock());
+            try {
+                moveContent(tempFile, checksum);
+
+                // Um novo upload com o mesmo nome substitui o anterior
+                Optional<ResumeSummary> existing = resumeRepository.findSummaryByFileName(fileName);
+                if (existing.isPresent()) {
+                    deleteEntry(existing.get(), checksum);
+                }
+
+                Resume resume = new Resume(fileName, file.getContentType());
+                resume.setContentChecksum(checksum);
+                resumeRepository.save(resume);
+            } finally {
+                if (!deferred) {
+                    lock.unlock();
+                }
+            }
+        } catch (IOException e) {
+            throw new StorageException("Falha ao gravar o arquivo em disco", e);
+        } catch (DataIntegrityViolationException e) {
+            throw new StorageException(ErrorMessages.DATABASE_FILE_EXISTS + fileName, e);
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    @Override
+    public byte[] read(String fileName) throws StorageException {
+        return readStream(fileName, InputStream::readAllBytes);
+    }
+
+    @Override
+    public <T> T readStream(String fileName, ContentReader<T> reader) throws StorageException {
+        Path path = resolveContentPath(fileName);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MMAP_THRESHOLD) {
+                return reader.read(Channels.newInputStream(channel));
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return reader.read(new ByteBufferInputStream(buffer));
+        } catch (IOException e) {
+            throw new StorageException("Falha ao ler o conteúdo do arquivo: " + fileName, e);
+        }
+    }
+
+    @Override
+    public boolean fileExists(String fileName) {
+        return resumeRepository.existsByFileName(fileName);
+    }
+
+    @Override
+    @Transactional
+    public void delete(String fileName) throws StorageException {
+        ResumeSummary summary = resumeRepository.findSummaryByFileName(fileName)
+                .orElseThrow(() -> new StorageException("Arquivo não encontrado para exclusão: " + fileName));
+
+        deleteEntry(summary, null);
+    }
+
+    private void deleteEntry(ResumeSummary summary, String retainedChecksum) {
+        resumeTextRepository.deleteByResumeId(summary.getId());
+        resumeRepository.deleteResumeById(summary.getId());
+
+        String checksum = summary.getContentChecksum();
+        if (checksum == null || checksum.equals(retainedChecksum)) {
+            return;
+        }
+        // O arquivo só sai do disco depois que a exclusão for efetivada
+        if (!afterCompletion(Ordered.LOWEST_PRECEDENCE, committed -> {
+            if (committed) {
+                removeContentIfUnreferenced(checksum);
+            }
+        })) {
+            removeContentIfUnreferenced(checksum);
+        }
+    }
+
+    private void removeContentIfUnreferenced(String checksum) {
+        ReentrantLock lock = lockFor(checksum);
+        lock.lock();
+        try {
+            // O mesmo conteúdo pode estar referenciado por outro nome de arquivo ou por um upload recente
+            if (!resumeRepository.existsByContentChecksum(checksum)) {
+                Files.deleteIfExists(contentPath(checksum));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Falha ao remover o conteúdo {} do disco: {}", checksum, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Agenda a ação para o fim da transação atual, na ordem informada. Sem transação ativa nada é
+     * agendado e o retorno é {@code false}: cabe ao chamador executar a ação imediatamente.
+     */
+    private static boolean afterCompletion(int order, Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return order;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+        return true;
+    }
+
+    private ReentrantLock lockFor(String checksum) {
+        return contentLocks[Math.floorMod(checksum.hashCode(), LOCK_STRIPES)];
+    }
+
+    @Override
+    public Optional<String> readExtractedText(String fileName) {
+        return resumeTextRepository.findTextByFileName(fileName);
+    }
+
+    @Override
+    public Optional<String> readContentChecksum(String fileName) {
+        return resumeRepository.findSummaryByFileName(fileName).map(ResumeSummary::getContentChecksum);
+    }
+
+    @Override
+    public void saveExtractedText(String fileName, String expectedChecksum, String extractedText)
+            throws StorageException {
+        ResumeSummary summary = resumeRepository.findSummaryByFileName(fileName)
+                .orElseThrow(() -> new StorageException("Arquivo não encontrado: " + fileName));
+        if (!Objects.equals(summary.getContentChecksum(), expectedChecksum)) {
+            // Um novo upload substituiu o arquivo durante a extração: o texto é do conteúdo anterior
+            return;
+        }
+
+        try {
+            resumeTextRepository.upsertText(summary.getId(), extractedText);
+        } catch (DataIntegrityViolationException e) {
+            // Outra leitura gravou o texto primeiro, ou o currículo foi excluído no meio: nada a fazer
+        }
+    }
+
+    @Override
+    public List<String> listFileNamesUploadedSince(LocalDateTime since) {
+        return resumeRepository.findFileNamesCreatedSince(since);
+    }
+
+    /**
+     * Copia o upload para o arquivo temporário calculando o SHA-256 na mesma passada.
+     */
+    private String writeTempContent(MultipartFile file, Path tempFile) throws IOException {
+        MessageDigest digest = HashUtils.newSha256Digest();
+        try (InputStream content = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(content, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Move atomicamente o arquivo temporário para o caminho endereçado pelo conteúdo, se ainda
+     * não existir. Deve ser chamado com o lock do checksum.
+     */
+    private void moveContent(Path tempFile, String checksum) throws IOException {
+        Path target = contentPath(checksum);
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            LOGGER.warn("Falha ao remover o arquivo temporário {}: {}", tempFile, e.getMessage());
+        }
+    }
+
+    private Path resolveContentPath(String fileName) throws StorageException {
+        String checksum = resumeRepository.findSummaryByFileName(fileName)
+                .map(ResumeSummary::getContentChecksum)
+                .orElseThrow(() -> new StorageException("Arquivo não encontrado: " + fileName));
+
+        Path path = contentPath(checksum);
+        if (!Files.exists(path)) {
+            throw new StorageException("Conteúdo do arquivo ausente no disco: " + fileName);
+        }
+        return path;
+    }
+
+    private Path contentPath(String checksum) {
+        return rootPath.resolve(checksum.substring(0, 2))
+                .resolve(checksum.substring(2, 4))
+                .resolve(checksum);
+    }
+
+    /**
+     * InputStream sobre um buffer mapeado em memória, sem copiar o arquivo para o heap.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.tellingmyresume.service;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,7 +22,6 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
@@ -23,21 +31,52 @@ import com.tellingmyresume.constants.ErrorMessages;
 import com.tellingmyresume.exception.GeminiServiceException;
 import com.tellingmyresume.dto.response.Candidate;
 import com.tellingmyresume.dto.response.GeminiResponseVO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 public class GeminiService implements AIAnalysisService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GeminiService.class);
 
+    private static final String SSE_DATA_PREFIX = "data:";
+
+    public static final String RESILIENCE_INSTANCE = "geminiService";
+
     @Value("${api.gemini.key}")
     private String apiKey;
 
+    @Value("${http.client.read-timeout:60s}")
+    private Duration requestTimeout;
+
     private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
 
-    public GeminiService(RestTemplate restTemplate) {
+    public GeminiService(RestTemplate restTemplate, HttpClient httpClient, ObjectMapper objectMapper,
+                         CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
         this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
     }
 
     /**
@@ -48,7 +87,9 @@ public class GeminiService implements AIAnalysisService {
      * @return O resumo do currículo processado pela API Gemini.
      */
     @Override
-    @Retry(name = "geminiService", fallbackMethod = "fallbackGenerateResume")
+    @Retry(name = RESILIENCE_INSTANCE, fallbackMethod = "fallbackGenerateResume")
+    @CircuitBreaker(name = RESILIENCE_INSTANCE)
+    @Bulkhead(name = RESILIENCE_INSTANCE)
     public String generateResume(String resumeContent) throws GeminiServiceException {
         if (resumeContent == null || resumeContent.trim().isEmpty()) {
             throw new GeminiServiceException("Conteúdo do currículo não pode estar vazio");
@@ -87,6 +128,18 @@ public class GeminiService implements AIAnalysisService {
         return ErrorMessages.GEMINI_FALLBACK_MESSAGE;
     }
 
+    /**
+     * Circuito aberto ou bulkhead cheio não usam a mensagem de fallback: a rejeição é repassada
+     * para que o chamador tente outro provedor imediatamente.
+     */
+    public String fallbackGenerateResume(String resumeContent, CallNotPermittedException ex) {
+        throw ex;
+    }
+
+    public String fallbackGenerateResume(String resumeContent, BulkheadFullException ex) {
+        throw ex;
+    }
+
     /**
      * Cria o corpo da requisição HTTP, incluindo os cabeçalhos e o conteúdo do currículo.
      * 
@@ -94,17 +147,20 @@ public class GeminiService implements AIAnalysisService {
      * @return O HttpEntity configurado com o corpo da requisição.
      */
     private HttpEntity<Map<String, Object>> createHttpEntity(String resumeContent) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json");
+
+        return new HttpEntity<>(createRequestBody(resumeContent), headers);
+    }
+
+    private Map<String, Object> createRequestBody(String resumeContent) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("contents", List.of(
             Map.of("parts", List.of(
                 Map.of("text", ApiConstants.GEMINI_PROMPT_TEMPLATE + resumeContent)
             ))
         ));
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/json");
-
-        return new HttpEntity<>(requestBody, headers);
+        return requestBody;
     }
 
     /**
@@ -116,22 +172,144 @@ public class GeminiService implements AIAnalysisService {
     private Optional<String> extractCandidateText(ResponseEntity<GeminiResponseVO> response) {
         return Optional.ofNullable(response)
                 .map(ResponseEntity::getBody)
-                .flatMap(body -> body.getCandidates().stream().findFirst())
+                .flatMap(this::extractCandidateText);
+    }
+
+    private Optional<String> extractCandidateText(GeminiResponseVO body) {
+        return Optional.ofNullable(body)
+                .map(GeminiResponseVO::getCandidates)
+                .flatMap(candidates -> candidates.stream().findFirst())
                 .map(Candidate::getContent)
                 .flatMap(content -> content.getParts().stream().findFirst())
                 .map(part -> part.getText());
     }
 
+    /**
+     * Gera o resumo de forma realmente assíncrona: a requisição é enviada pelo {@link HttpClient}
+     * compartilhado sem ocupar uma thread enquanto aguarda a resposta da API Gemini.
+     * 
+     * @param resumeContent O conteúdo do currículo.
+     * @return Um CompletableFuture com o resumo processado pela API Gemini.
+     */
     @Override
-    @Async
+    @Retry(name = RESILIENCE_INSTANCE, fallbackMethod = "fallbackGenerateResumeAsync")
+    @CircuitBreaker(name = RESILIENCE_INSTANCE)
+    @Bulkhead(name = RESILIENCE_INSTANCE)
+    @TimeLimiter(name = RESILIENCE_INSTANCE)
     public CompletableFuture<String> generateResumeAsync(String resumeContent) {
+        if (resumeContent == null || resumeContent.trim().isEmpty()) {
+            return CompletableFuture.failedFuture(
+                    new GeminiServiceException("Conteúdo do currículo não pode estar vazio"));
+        }
+
+        HttpRequest request;
         try {
-            String result = generateResume(resumeContent);
-            return CompletableFuture.completedFuture(result);
-        } catch (Exception e) {
-            CompletableFuture<String> future = new CompletableFuture<>();
-            future.completeExceptionally(e);
-            return future;
+            request = createJsonRequest(ApiConstants.GEMINI_BASE_URL + apiKey, resumeContent);
+        } catch (GeminiServiceException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .exceptionally(failure -> {
+                    throw connectivityFailure(failure);
+                })
+                .thenApply(this::parseAsyncResponse);
+    }
+
+    /**
+     * Gera o resumo via {@code streamGenerateContent}: a API envia eventos SSE com trechos parciais,
+     * repassados assim que chegam em vez de aguardar a resposta completa. O circuito e o bulkhead
+     * do Gemini são aplicados como operadores do Flux, ocupando a vaga até o fim do stream.
+     * 
+     * @param resumeContent O conteúdo do currículo.
+     * @return Um Flux com os trechos do resumo na ordem em que foram gerados.
+     */
+    @Override
+    public Flux<String> generateResumeStream(String resumeContent) {
+        if (resumeContent == null || resumeContent.trim().isEmpty()) {
+            return Flux.error(new GeminiServiceException("Conteúdo do currículo não pode estar vazio"));
+        }
+
+        return Flux.defer(() -> Mono.fromFuture(httpClient.sendAsync(
+                        createJsonRequest(ApiConstants.GEMINI_STREAM_URL + apiKey, resumeContent),
+                        HttpResponse.BodyHandlers.ofLines())))
+                // A leitura das linhas é bloqueante: não ocupa as threads do próprio HttpClient
+                .publishOn(Schedulers.boundedElastic())
+                .flatMapMany(this::readStreamEvents)
+                .filter(line -> line.startsWith(SSE_DATA_PREFIX))
+                .map(line -> parseStreamChunk(line.substring(SSE_DATA_PREFIX.length()).trim()))
+                .flatMap(Mono::justOrEmpty)
+                .onErrorMap(e -> !(e instanceof GeminiServiceException), e -> {
+                    LOGGER.error("Erro no streaming da API do Gemini: {}", e.getMessage(), e);
+                    return new GeminiServiceException("Erro de conectividade com o serviço Gemini: " + e.getMessage(), e);
+                })
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE)));
+    }
+
+    private Flux<String> readStreamEvents(HttpResponse<Stream<String>> response) {
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            return Flux.error(new GeminiServiceException(
+                    "Erro de conectividade com o serviço Gemini: HTTP " + response.statusCode()));
+        }
+        return Flux.fromStream(response.body());
+    }
+
+    private Optional<String> parseStreamChunk(String json) {
+        try {
+            return extractCandidateText(objectMapper.readValue(json, GeminiResponseVO.class));
+        } catch (JsonProcessingException e) {
+            throw new GeminiServiceException(ErrorMessages.GEMINI_API_ERROR, e);
+        }
+    }
+
+    private HttpRequest createJsonRequest(String url, String resumeContent) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(createRequestBody(resumeContent))))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new GeminiServiceException(ErrorMessages.GEMINI_API_ERROR, e);
+        }
+    }
+
+    public CompletableFuture<String> fallbackGenerateResumeAsync(String resumeContent, Exception ex) {
+        LOGGER.error("Falha ao gerar currículo pela API do Gemini (assíncrono). Executando fallback. Motivo: {}", ex.getMessage());
+        return CompletableFuture.completedFuture(ErrorMessages.GEMINI_FALLBACK_MESSAGE);
+    }
+
+    public CompletableFuture<String> fallbackGenerateResumeAsync(String resumeContent, CallNotPermittedException ex) {
+        return CompletableFuture.failedFuture(ex);
+    }
+
+    public CompletableFuture<String> fallbackGenerateResumeAsync(String resumeContent, BulkheadFullException ex) {
+        return CompletableFuture.failedFuture(ex);
+    }
+
+    private static GeminiServiceException connectivityFailure(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        if (cause instanceof HttpTimeoutException) {
+            LOGGER.error("Tempo limite excedido ao chamar a API do Gemini: {}", cause.getMessage());
+            return new GeminiServiceException("Tempo limite excedido ao chamar o serviço Gemini", cause);
+        }
+        LOGGER.error("Erro de conectividade com a API do Gemini: {}", cause.getMessage(), cause);
+        return new GeminiServiceException("Erro de conectividade com o serviço Gemini: " + cause.getMessage(), cause);
+    }
+
+    private String parseAsyncResponse(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new GeminiServiceException("Erro de conectividade com o serviço Gemini: HTTP " + response.statusCode());
+        }
+        try {
+            GeminiResponseVO body = objectMapper.readValue(response.body(), GeminiResponseVO.class);
+            return extractCandidateText(body)
+                    .orElseThrow(() -> new GeminiServiceException(ErrorMessages.GEMINI_INSUFFICIENT_DATA));
+        } catch (JsonProcessingException e) {
+            throw new GeminiServiceException(ErrorMessages.GEMINI_API_ERROR, e);
         }
     }
 
@@ -140,10 +318,30 @@ public class GeminiService implements AIAnalysisService {
         return "Gemini";
     }
 
+    @Override
+    public void probe(Duration timeout) throws GeminiServiceException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ApiConstants.GEMINI_MODEL_URL + apiKey))
+                .timeout(timeout)
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new GeminiServiceException("Serviço Gemini respondeu HTTP " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new GeminiServiceException("Erro de conectividade com o serviço Gemini: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeminiServiceException("Verificação do serviço Gemini interrompida", e);
+        }
+    }
+
     @Override
     public boolean isServiceAvailable() {
         try {
-            return restTemplate != null && apiKey != null && !apiKey.equals("demo-key");
+            return restTemplate != null && apiKey != null && !apiKey.equals("demo-key")
+                    && circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE).getState() != State.OPEN;
         } catch (Exception e) {
             LOGGER.warn("Falha ao verificar disponibilidade do serviço Gemini: {}", e.getMessage());
             return false;
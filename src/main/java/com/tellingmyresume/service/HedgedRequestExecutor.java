@@ -0,0 +1,173 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tellingmyresume.utils.CorrelationIdUtils;
+
+/**
+ * Executa tentativas alternativas de uma mesma operação em "corrida".
+ * A primeira tentativa começa imediatamente; a seguinte é disparada após o atraso de hedge
+ * (ou assim que a anterior falhar). O primeiro resultado aceito vence e as demais são canceladas.
+ *
+ * <p>O cancelamento não interrompe a thread: interromper uma chamada HTTP em andamento a faria
+ * falhar na hora, e essa falha artificial contaminaria as métricas do provedor. Tentativas ainda
+ * na fila não chegam a rodar; as que já começaram terminam normalmente e podem consultar
+ * {@link #currentAttemptCancellation()} para saber que perderam a corrida.
+ */
+@Component
+public class HedgedRequestExecutor {
+
+    public enum Strategy {
+        SEQUENTIAL, HEDGED, PARALLEL
+    }
+
+    private static final ThreadLocal<AtomicBoolean> CURRENT_ATTEMPT_CANCELLED = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final Strategy strategy;
+    private final Duration hedgeDelay;
+
+    public HedgedRequestExecutor(@Qualifier("taskExecutor") Executor executor,
+                                 @Value("${analysis.fallback.strategy:sequential}") String strategy,
+                                 @Value("${analysis.fallback.hedge-delay:3s}") Duration hedgeDelay) {
+        this.executor = executor;
+        this.strategy = Strategy.valueOf(strategy.trim().toUpperCase());
+        this.hedgeDelay = this.strategy == Strategy.PARALLEL ? Duration.ZERO : hedgeDelay;
+    }
+
+    public boolean isEnabled() {
+        return strategy != Strategy.SEQUENTIAL;
+    }
+
+    /**
+     * Indica se a tentativa executada na thread atual foi cancelada por outra ter vencido.
+     * Fora de uma tentativa o resultado é sempre {@code false}.
+     */
+    public static BooleanSupplier currentAttemptCancellation() {
+        AtomicBoolean cancelled = CURRENT_ATTEMPT_CANCELLED.get();
+        return cancelled == null ? () -> false : cancelled::get;
+    }
+
+    /**
+     * Executa as tentativas em ordem de prioridade, com hedge entre elas.
+     *
+     * @param attempts As tentativas, da mais para a menos preferida.
+     * @param accepted Critério para considerar um resultado bem-sucedido.
+     * @return O primeiro resultado aceito; se nenhum for aceito, o último resultado obtido.
+     * @throws Exception A falha da última tentativa, quando nenhuma produziu resultado.
+     */
+    public <T> T invoke(List<Callable<T>> attempts, Predicate<T> accepted) throws Exception {
+        if (attempts.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma tentativa informada");
+        }
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(this::executeOrRunInline);
+        List<Attempt<T>> started = new ArrayList<>();
+        T lastResult = null;
+        Throwable lastFailure = null;
+        int next = 0;
+        int pending = 0;
+
+        try {
+            started.add(submit(completionService, attempts.get(next++)));
+            pending++;
+
+            while (pending > 0) {
+                Future<T> completed = next < attempts.size()
+                        ? completionService.poll(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS)
+                        : completionService.take();
+
+                if (completed == null) {
+                    // A tentativa em andamento passou do atraso de hedge: dispara a próxima
+                    started.add(submit(completionService, attempts.get(next++)));
+                    pending++;
+                    continue;
+                }
+
+                pending--;
+                try {
+                    T result = completed.get();
+                    if (accepted.test(result)) {
+                        return result;
+                    }
+                    lastResult = result;
+                } catch (ExecutionException e) {
+                    lastFailure = e.getCause();
+                }
+
+                if (pending == 0 && next < attempts.size()) {
+                    started.add(submit(completionService, attempts.get(next++)));
+                    pending++;
+                }
+            }
+        } finally {
+            started.forEach(Attempt::cancel);
+        }
+
+        if (lastResult != null) {
+            return lastResult;
+        }
+        if (lastFailure instanceof Exception exception) {
+            throw exception;
+        }
+        throw new IllegalStateException("Falha inesperada na execução das tentativas", lastFailure);
+    }
+
+    /**
+     * Com o executor cheio a tentativa roda na thread atual, como nos demais usos do executor:
+     * recusar aqui faria a análise falhar sem nenhum provedor ter sido chamado.
+     */
+    private void executeOrRunInline(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private static <T> Attempt<T> submit(CompletionService<T> completionService, Callable<T> attempt) {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Callable<T> task = CorrelationIdUtils.withCurrentContext(attempt);
+        Future<T> future = completionService.submit(() -> {
+            AtomicBoolean previous = CURRENT_ATTEMPT_CANCELLED.get();
+            CURRENT_ATTEMPT_CANCELLED.set(cancelled);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT_ATTEMPT_CANCELLED.remove();
+                } else {
+                    CURRENT_ATTEMPT_CANCELLED.set(previous);
+                }
+            }
+        });
+        return new Attempt<>(future, cancelled);
+    }
+
+    private record Attempt<T>(Future<T> future, AtomicBoolean cancelled) {
+
+        void cancel() {
+            if (!future.isDone()) {
+                cancelled.set(true);
+                future.cancel(false);
+            }
+        }
+    }
+}
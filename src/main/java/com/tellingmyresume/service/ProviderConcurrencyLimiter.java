@@ -0,0 +1,71 @@
+package com.tellingmyresume.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limita quantas chamadas simultâneas cada provedor de IA recebe durante o processamento em lote,
+ * para que um lote grande não estoure as cotas de requisições das APIs externas.
+ */
+@Component
+public class ProviderConcurrencyLimiter {
+
+    private final Map<String, Integer> limits;
+    private final Map<String, Semaphore> permits;
+
+    public ProviderConcurrencyLimiter(@Value("${analysis.batch.concurrency.claude:4}") int claudeLimit,
+                                      @Value("${analysis.batch.concurrency.gemini:4}") int geminiLimit) {
+        this.limits = Map.of("claude", claudeLimit, "gemini", geminiLimit);
+        this.permits = Map.of(
+            "claude", new Semaphore(claudeLimit, true),
+            "gemini", new Semaphore(geminiLimit, true)
+        );
+    }
+
+    public int limitFor(String providerName) {
+        return limits.getOrDefault(providerName.toLowerCase(Locale.ROOT), 1);
+    }
+
+    /**
+     * Coloca à frente os provedores que têm vaga livre no momento, mantendo entre eles a ordem
+     * de preferência. Assim um item não fica esperando o provedor preferido enquanto outro está ocioso.
+     */
+    public List<String> orderByFreePermits(List<String> providerNames) {
+        List<String> ordered = new ArrayList<>(providerNames.size());
+        List<String> busy = new ArrayList<>();
+        for (String providerName : providerNames) {
+            Semaphore semaphore = permits.get(providerName.toLowerCase(Locale.ROOT));
+            if (semaphore == null || semaphore.availablePermits() > 0) {
+                ordered.add(providerName);
+            } else {
+                busy.add(providerName);
+            }
+        }
+        ordered.addAll(busy);
+        return ordered;
+    }
+
+    /**
+     * Executa a tarefa ocupando uma das vagas do provedor, aguardando se todas estiverem em uso.
+     */
+    public <T> T execute(String providerName, Callable<T> task) throws Exception {
+        Semaphore semaphore = permits.get(providerName.toLowerCase(Locale.ROOT));
+        if (semaphore == null) {
+            return task.call();
+        }
+
+        semaphore.acquire();
+        try {
+            return task.call();
+        } finally {
+            semaphore.release();
+        }
+    }
+}
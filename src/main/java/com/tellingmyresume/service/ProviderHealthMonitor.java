@@ -0,0 +1,100 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tellingmyresume.dto.response.ProviderHealthStatus;
+
+/**
+ * Verifica periodicamente cada provedor de IA com uma requisição leve e guarda o último resultado,
+ * com horário e latência. As consultas de status leem apenas esse cache, sem chamar os provedores.
+ * Enquanto não houver verificação recente (sondagem desligada ou resultado expirado), vale apenas
+ * a checagem de configuração de cada serviço.
+ */
+@Component
+public class ProviderHealthMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProviderHealthMonitor.class);
+
+    private final Map<String, AIAnalysisService> providers;
+    private final Map<String, ProviderHealthStatus> health = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration probeTimeout;
+    private final Duration maxAge;
+
+    public ProviderHealthMonitor(@Qualifier("claudeService") AIAnalysisService claudeService,
+                                 @Qualifier("geminiService") AIAnalysisService geminiService,
+                                 @Value("${ai.health.probe.enabled:true}") boolean enabled,
+                                 @Value("${ai.health.probe.timeout:5s}") Duration probeTimeout,
+                                 @Value("${ai.health.probe.max-age:2m}") Duration maxAge) {
+        this.providers = new LinkedHashMap<>();
+        this.providers.put("Claude", claudeService);
+        this.providers.put("Gemini", geminiService);
+        this.enabled = enabled;
+        this.probeTimeout = probeTimeout;
+        this.maxAge = maxAge;
+    }
+
+    @Scheduled(initialDelayString = "${ai.health.probe.initial-delay:0}",
+               fixedDelayString = "${ai.health.probe.interval:30000}")
+    public void probeProviders() {
+        if (!enabled) {
+            return;
+        }
+        providers.forEach(this::probe);
+    }
+
+    void probe(String providerName, AIAnalysisService service) {
+        long startTime = System.nanoTime();
+        try {
+            service.probe(probeTimeout);
+            health.put(providerName, ProviderHealthStatus.up(elapsedMillis(startTime)));
+        } catch (Exception e) {
+            ProviderHealthStatus previous = health.get(providerName);
+            int failures = previous == null || previous.isAvailable() ? 1 : previous.getConsecutiveFailures() + 1;
+            if (failures == 1) {
+                LOGGER.warn("Provedor {} não respondeu à verificação de saúde: {}", providerName, e.getMessage());
+            }
+            health.put(providerName, ProviderHealthStatus.down(elapsedMillis(startTime), e.getMessage(), failures));
+        }
+    }
+
+    /**
+     * Último resultado da sondagem do provedor, se ainda estiver dentro da validade.
+     */
+    public Optional<ProviderHealthStatus> getHealth(String providerName) {
+        ProviderHealthStatus status = health.get(providerName);
+        if (status == null || status.getCheckedAt().isBefore(LocalDateTime.now().minus(maxAge))) {
+            return Optional.empty();
+        }
+        return Optional.of(status);
+    }
+
+    /**
+     * Falso apenas quando a sondagem mais recente falhou; sem resultado válido, o provedor não é descartado.
+     */
+    public boolean isHealthy(String providerName) {
+        return getHealth(providerName).map(ProviderHealthStatus::isAvailable).orElse(true);
+    }
+
+    public Map<String, ProviderHealthStatus> snapshot() {
+        Map<String, ProviderHealthStatus> snapshot = new LinkedHashMap<>();
+        providers.keySet().forEach(name -> getHealth(name).ifPresent(status -> snapshot.put(name, status)));
+        return snapshot;
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+    }
+}
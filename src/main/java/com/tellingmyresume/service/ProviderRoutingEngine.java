@@ -0,0 +1,252 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tellingmyresume.dto.response.ProviderRoutingStats;
+
+/**
+ * Escolhe a ordem dos provedores de IA a partir de uma janela deslizante das últimas chamadas:
+ * latência p50/p99, taxa de erro e custo estimado em tokens. Cada métrica é normalizada pelo
+ * maior valor entre os candidatos e combinada pelos pesos, que podem ser alterados em tempo de execução.
+ * Amostras mais antigas que {@code max-sample-age} deixam de contar, para que a decisão reflita
+ * o comportamento recente do provedor e não o de horas atrás.
+ *
+ * <p>Enquanto algum provedor não tiver amostras suficientes, a ordem estática (Claude, depois
+ * Gemini) é rotacionada a cada requisição, de modo que todos passem a receber chamadas e a
+ * pontuação possa ser calculada. Depois disso, uma pequena fração das requisições inverte a ordem
+ * para que o provedor preterido continue recebendo amostras e possa recuperar a posição.
+ */
+@Component
+public class ProviderRoutingEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProviderRoutingEngine.class);
+
+    public record RoutingWeights(double latency, double errorRate, double cost) {
+    }
+
+    private final int windowSize;
+    private final int minSamples;
+    private final long maxSampleAgeNanos;
+    private final double explorationRate;
+    private final LongSupplier nanoClock;
+    private final AtomicLong warmupRequests = new AtomicLong();
+    private final Map<String, Double> costPer1kTokens;
+    private final Map<String, SampleWindow> windows = new ConcurrentHashMap<>();
+    private volatile RoutingWeights weights;
+
+    @Autowired
+    public ProviderRoutingEngine(@Value("${analysis.routing.window-size:100}") int windowSize,
+                                 @Value("${analysis.routing.min-samples:5}") int minSamples,
+                                 @Value("${analysis.routing.max-sample-age:10m}") Duration maxSampleAge,
+                                 @Value("${analysis.routing.exploration-rate:0.05}") double explorationRate,
+                                 @Value("${analysis.routing.weights.latency:1.0}") double latencyWeight,
+                                 @Value("${analysis.routing.weights.error-rate:2.0}") double errorRateWeight,
+                                 @Value("${analysis.routing.weights.cost:0.5}") double costWeight,
+                                 @Value("${analysis.routing.cost-per-1k-tokens.claude:0.003}") double claudeCost,
+                                 @Value("${analysis.routing.cost-per-1k-tokens.gemini:0.00035}") double geminiCost) {
+        this(windowSize, minSamples, maxSampleAge, explorationRate, latencyWeight, errorRateWeight, costWeight,
+                claudeCost, geminiCost, System::nanoTime);
+    }
+
+    ProviderRoutingEngine(int windowSize, int minSamples, Duration maxSampleAge, double explorationRate,
+                          double latencyWeight, double errorRateWeight, double costWeight,
+                          double claudeCost, double geminiCost, LongSupplier nanoClock) {
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+        this.maxSampleAgeNanos = maxSampleAge.toNanos();
+        this.explorationRate = explorationRate;
+        this.nanoClock = nanoClock;
+        this.weights = new RoutingWeights(latencyWeight, errorRateWeight, costWeight);
+        this.costPer1kTokens = Map.of("claude", claudeCost, "gemini", geminiCost);
+    }
+
+    /**
+     * Registra o resultado de uma chamada ao provedor.
+     *
+     * @param providerName O provedor chamado.
+     * @param latency A duração da chamada.
+     * @param success Se a chamada produziu uma análise válida.
+     * @param estimatedTokens Tokens estimados de entrada e saída.
+     */
+    public void record(String providerName, Duration latency, boolean success, long estimatedTokens) {
+        windows.computeIfAbsent(key(providerName), name -> new SampleWindow(windowSize))
+                .add(nanoClock.getAsLong(), latency.toMillis(), success, estimatedTokens);
+    }
+
+    /**
+     * Ordena os provedores para uma chamada real, do melhor para o pior. Enquanto faltarem
+     * amostras, a ordem estática é rotacionada a cada chamada; depois, ocasionalmente o último
+     * colocado é promovido para continuar sendo medido.
+     */
+    public List<String> rank(List<String> providerNames) {
+        List<String> ranked = scoredOrder(providerNames);
+        if (ranked == null) {
+            List<String> rotated = new ArrayList<>(providerNames);
+            Collections.rotate(rotated, -(int) (warmupRequests.getAndIncrement() % providerNames.size()));
+            return rotated;
+        }
+        if (ranked.size() > 1 && ThreadLocalRandom.current().nextDouble() < explorationRate) {
+            List<String> explored = new ArrayList<>(ranked);
+            explored.add(0, explored.remove(explored.size() - 1));
+            return explored;
+        }
+        return ranked;
+    }
+
+    /**
+     * A ordem atual pela pontuação, sem rotação nem exploração, para exibição e diagnóstico.
+     * A ordem recebida é a prioridade estática, usada como desempate e enquanto faltarem amostras.
+     */
+    public List<String> currentOrder(List<String> providerNames) {
+        List<String> ranked = scoredOrder(providerNames);
+        return ranked == null ? providerNames : ranked;
+    }
+
+    private List<String> scoredOrder(List<String> providerNames) {
+        List<ProviderRoutingStats> stats = providerNames.stream().map(this::statsFor).toList();
+        if (stats.stream().anyMatch(stat -> stat.getSamples() < minSamples)) {
+            return null;
+        }
+
+        double maxP50 = max(stats, ProviderRoutingStats::getP50LatencyMs);
+        double maxP99 = max(stats, ProviderRoutingStats::getP99LatencyMs);
+        double maxCost = max(stats, ProviderRoutingStats::getAverageCost);
+        RoutingWeights current = weights;
+
+        List<ProviderRoutingStats> ranked = new ArrayList<>(stats);
+        ranked.forEach(stat -> stat.setScore(score(stat, current, maxP50, maxP99, maxCost)));
+        ranked.sort(Comparator.comparingDouble(ProviderRoutingStats::getScore));
+        return ranked.stream().map(ProviderRoutingStats::getProvider).toList();
+    }
+
+    public List<ProviderRoutingStats> snapshot(List<String> providerNames) {
+        List<ProviderRoutingStats> stats = providerNames.stream().map(this::statsFor).toList();
+        double maxP50 = max(stats, ProviderRoutingStats::getP50LatencyMs);
+        double maxP99 = max(stats, ProviderRoutingStats::getP99LatencyMs);
+        double maxCost = max(stats, ProviderRoutingStats::getAverageCost);
+        RoutingWeights current = weights;
+        stats.forEach(stat -> stat.setScore(score(stat, current, maxP50, maxP99, maxCost)));
+        return stats;
+    }
+
+    public RoutingWeights getWeights() {
+        return weights;
+    }
+
+    public void updateWeights(RoutingWeights weights) {
+        this.weights = weights;
+        LOGGER.info("Pesos de roteamento atualizados: {}", weights);
+    }
+
+    private ProviderRoutingStats statsFor(String providerName) {
+        String key = key(providerName);
+        double cost = costPer1kTokens.getOrDefault(key, 0.0);
+        SampleWindow window = windows.get(key);
+        if (window == null) {
+            return new ProviderRoutingStats(providerName, 0, 0, 0, 0, 0, cost);
+        }
+        return window.stats(providerName, cost, nanoClock.getAsLong() - maxSampleAgeNanos);
+    }
+
+    private static double score(ProviderRoutingStats stat, RoutingWeights weights,
+                                double maxP50, double maxP99, double maxCost) {
+        double latency = (ratio(stat.getP50LatencyMs(), maxP50) + ratio(stat.getP99LatencyMs(), maxP99)) / 2;
+        return weights.latency() * latency
+                + weights.errorRate() * stat.getErrorRate()
+                + weights.cost() * ratio(stat.getAverageCost(), maxCost);
+    }
+
+    private static double ratio(double value, double max) {
+        return max > 0 ? value / max : 0;
+    }
+
+    private static double max(List<ProviderRoutingStats> stats, ToDoubleFunction<ProviderRoutingStats> metric) {
+        return stats.stream().mapToDouble(metric).max().orElse(0);
+    }
+
+    private static String key(String providerName) {
+        return providerName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Buffer circular com as últimas {@code capacity} chamadas de um provedor.
+     */
+    private static final class SampleWindow {
+
+        private final long[] timestamps;
+        private final long[] latencies;
+        private final boolean[] successes;
+        private final long[] tokens;
+        private int next;
+        private int count;
+
+        SampleWindow(int capacity) {
+            this.timestamps = new long[capacity];
+            this.latencies = new long[capacity];
+            this.successes = new boolean[capacity];
+            this.tokens = new long[capacity];
+        }
+
+        synchronized void add(long timestamp, long latencyMs, boolean success, long estimatedTokens) {
+            timestamps[next] = timestamp;
+            latencies[next] = latencyMs;
+            successes[next] = success;
+            tokens[next] = estimatedTokens;
+            next = (next + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+        }
+
+        /**
+         * @param oldestTimestamp Amostras registradas antes deste instante são ignoradas.
+         */
+        synchronized ProviderRoutingStats stats(String providerName, double costPer1kTokens, long oldestTimestamp) {
+            long[] recentLatencies = new long[count];
+            int recent = 0;
+            int failures = 0;
+            long totalTokens = 0;
+            for (int i = 0; i < count; i++) {
+                if (timestamps[i] - oldestTimestamp < 0) {
+                    continue;
+                }
+                recentLatencies[recent++] = latencies[i];
+                if (!successes[i]) {
+                    failures++;
+                }
+                totalTokens += tokens[i];
+            }
+            long[] sorted = Arrays.copyOf(recentLatencies, recent);
+            Arrays.sort(sorted);
+            return new ProviderRoutingStats(providerName, recent,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    recent == 0 ? 0 : (double) failures / recent,
+                    recent == 0 ? 0 : (double) totalTokens / recent,
+                    costPer1kTokens);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
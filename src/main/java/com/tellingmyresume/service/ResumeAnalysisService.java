@@ -3,6 +3,7 @@ package com.tellingmyresume.service;
 import java.util.concurrent.CompletableFuture;
 
 import com.tellingmyresume.dto.request.ResumeUploadRequest;
+import com.tellingmyresume.dto.response.AnalysisStreamEvent;
 import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
 import com.tellingmyresume.dto.response.ResumeContentResponse;
 import com.tellingmyresume.dto.response.ResumeUploadResponse;
@@ -10,12 +11,16 @@ import com.tellingmyresume.exception.AIServiceException;
 import com.tellingmyresume.exception.ResumeNotFoundException;
 import com.tellingmyresume.exception.ResumeStorageException;
 
+import reactor.core.publisher.Flux;
+
 public interface ResumeAnalysisService {
     
     ResumeUploadResponse uploadResume(ResumeUploadRequest request) throws ResumeStorageException;
     
     ResumeContentResponse getResumeContent(String fileName) throws ResumeNotFoundException;
     
+    String getResumeChecksum(String fileName) throws ResumeNotFoundException;
+    
     ResumeAnalysisResponse analyzeResumeWithProvider(String fileName, String aiProvider) 
             throws ResumeNotFoundException, AIServiceException;
     
@@ -24,6 +29,9 @@ public interface ResumeAnalysisService {
     
     ResumeAnalysisResponse analyzeResumeWithBestAvailable(String fileName) 
             throws ResumeNotFoundException, AIServiceException;
+    
+    Flux<AnalysisStreamEvent> streamResumeAnalysis(String fileName, String aiProvider) 
+            throws ResumeNotFoundException, AIServiceException;
             
     boolean isResumeAvailable(String fileName);
     
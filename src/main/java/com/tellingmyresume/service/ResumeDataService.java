@@ -1,5 +1,8 @@
 package com.tellingmyresume.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.web.multipart.MultipartFile;
 
 import com.tellingmyresume.exception.ResumeNotFoundException;
@@ -11,7 +14,11 @@ public interface ResumeDataService {
     
     String readResume(String fileName) throws ResumeNotFoundException;
     
+    String readContentChecksum(String fileName) throws ResumeNotFoundException;
+    
     boolean resumeExists(String fileName);
     
     void deleteResume(String fileName) throws ResumeNotFoundException;
+    
+    List<String> findResumesUploadedSince(LocalDateTime since);
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tellingmyresume.repository.ResumeRepository;
+
+/**
+ * Cache de curta duração das consultas de existência por nome de currículo. O banco continua
+ * sendo a fonte da verdade: uploads e exclusões feitos por esta instância atualizam o cache na
+ * hora, e alterações feitas por outras instâncias ou direto no banco aparecem após o TTL.
+ */
+@Component
+public class ResumeNameIndex {
+
+    private final ResumeRepository resumeRepository;
+    private final Cache<String, Boolean> existence;
+
+    public ResumeNameIndex(ResumeRepository resumeRepository,
+                           @Value("${resume.index.ttl:10s}") Duration ttl,
+                           @Value("${resume.index.max-size:10000}") long maxSize) {
+        this.resumeRepository = resumeRepository;
+        this.existence = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean contains(String fileName) {
+        return fileName != null && existence.get(fileName, resumeRepository::existsByFileName);
+    }
+
+    public void add(String fileName) {
+        existence.put(fileName, true);
+    }
+
+    public void remove(String fileName) {
+        existence.put(fileName, false);
+    }
+}
@@ -0,0 +1,268 @@
+package com.tellingmyresume.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prepara o texto extraído do currículo antes de enviá-lo aos provedores de IA: remove ruído
+ * de extração (numeração de páginas, cabeçalhos e rodapés repetidos nas quebras de página,
+ * espaços em excesso), limita o tamanho total pela estimativa de tokens e, para documentos
+ * longos, divide o texto em seções nos limites de parágrafo para análise em paralelo.
+ */
+@Component
+public class ResumePreprocessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResumePreprocessor.class);
+
+    /** Aproximação usual de ~4 caracteres por token. */
+    private static final int CHARS_PER_TOKEN = 4;
+
+    /**
+     * Linhas que abrem ou fecham ao menos esta quantidade de páginas (ou todas, em documentos menores)
+     * são tratadas como cabeçalho ou rodapé.
+     */
+    private static final int REPEATED_LINE_THRESHOLD = 3;
+
+    private static final String PAGE_BREAK = "\f";
+
+    private static final int MAX_REPEATED_LINE_LENGTH = 80;
+
+    private static final Pattern PAGE_MARKER = Pattern.compile(
+            "^(?:(?:p[áa]gina|page)\\s+\\d+(?:\\s+(?:de|of)\\s+\\d+)?|-\\s*\\d{1,3}\\s*-)$",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern CONTROL_CHARS = Pattern.compile("[\\p{Cntrl}&&[^\\n\\t]]");
+
+    private static final Pattern HORIZONTAL_WHITESPACE = Pattern.compile("[\\h]+");
+
+    public record PreparedResume(String text, List<String> sections, int estimatedTokens, boolean truncated) {
+
+        public boolean isChunked() {
+            return sections.size() > 1;
+        }
+    }
+
+    private final int maxInputTokens;
+    private final int chunkThresholdTokens;
+    private final int chunkTokens;
+
+    public ResumePreprocessor(@Value("${analysis.preprocessing.max-input-tokens:24000}") int maxInputTokens,
+                              @Value("${analysis.preprocessing.chunk-threshold-tokens:6000}") int chunkThresholdTokens,
+                              @Value("${analysis.preprocessing.chunk-tokens:4000}") int chunkTokens) {
+        this.maxInputTokens = maxInputTokens;
+        this.chunkThresholdTokens = chunkThresholdTokens;
+        this.chunkTokens = chunkTokens;
+    }
+
+    public static int estimateTokens(String text) {
+        return text == null ? 0 : text.length() / CHARS_PER_TOKEN;
+    }
+
+    public PreparedResume prepare(String resumeContent) {
+        String text = normalize(resumeContent);
+        boolean truncated = false;
+
+        int maxChars = maxInputTokens * CHARS_PER_TOKEN;
+        if (text.length() > maxChars) {
+            LOGGER.warn("Currículo com ~{} tokens excede o limite de {}; o texto será truncado",
+                    estimateTokens(text), maxInputTokens);
+            text = truncate(text, maxChars);
+            truncated = true;
+        }
+
+        int estimatedTokens = estimateTokens(text);
+        List<String> sections = estimatedTokens > chunkThresholdTokens
+                ? split(text, chunkTokens * CHARS_PER_TOKEN)
+                : List.of(text);
+        return new PreparedResume(text, sections, estimatedTokens, truncated);
+    }
+
+    /**
+     * Remove ruído típico da extração de PDF/DOCX sem alterar o conteúdo das linhas restantes.
+     * Numeração de página só é removida nos formatos {@code Página N de M} e {@code - N -}; cabeçalhos
+     * e rodapés só são reconhecidos nas bordas das páginas ({@code \f}), para que datas, cargos e
+     * títulos repetidos no corpo do currículo sejam preservados.
+     */
+    String normalize(String content) {
+        if (content == null) {
+            return "";
+        }
+        String[] rawPages = content.replace("\r\n", "\n").replace('\r', '\n').split(PAGE_BREAK, -1);
+        List<String[]> pages = new ArrayList<>(rawPages.length);
+        for (String rawPage : rawPages) {
+            String[] lines = CONTROL_CHARS.matcher(rawPage).replaceAll("").split("\n", -1);
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = HORIZONTAL_WHITESPACE.matcher(lines[i]).replaceAll(" ").trim();
+                if (PAGE_MARKER.matcher(lines[i]).matches()) {
+                    lines[i] = "";
+                }
+            }
+            pages.add(lines);
+        }
+
+        Set<String> headersAndFooters = repeatedBoundaryLines(pages);
+        StringBuilder result = new StringBuilder(content.length());
+        Set<String> seenRepeated = new HashSet<>();
+        boolean pendingBlankLine = false;
+        for (String[] lines : pages) {
+            int first = firstLine(lines);
+            int last = lastLine(lines);
+            for (int i = 0; i < lines.length; i++) {
+                String line = lines[i];
+                if (line.isEmpty()) {
+                    pendingBlankLine = result.length() > 0;
+                    continue;
+                }
+                String key = line.toLowerCase(Locale.ROOT);
+                // A primeira ocorrência é mantida: no topo da primeira página costuma estar o nome do candidato
+                if ((i == first || i == last) && headersAndFooters.contains(key) && !seenRepeated.add(key)) {
+                    continue;
+                }
+                if (result.length() > 0) {
+                    result.append(pendingBlankLine ? "\n\n" : "\n");
+                }
+                result.append(line);
+                pendingBlankLine = false;
+            }
+            // A troca de página separa parágrafos
+            pendingBlankLine = result.length() > 0;
+        }
+        return result.toString();
+    }
+
+    private static Set<String> repeatedBoundaryLines(List<String[]> pages) {
+        Map<String, Integer> occurrences = new HashMap<>();
+        int pagesWithText = 0;
+        for (String[] lines : pages) {
+            int first = firstLine(lines);
+            if (first < 0) {
+                continue;
+            }
+            pagesWithText++;
+            int last = lastLine(lines);
+            Set<String> boundary = new HashSet<>();
+            for (int index : new int[] {first, last}) {
+                if (lines[index].length() <= MAX_REPEATED_LINE_LENGTH) {
+                    boundary.add(lines[index].toLowerCase(Locale.ROOT));
+                }
+            }
+            boundary.forEach(key -> occurrences.merge(key, 1, Integer::sum));
+        }
+        if (pagesWithText < 2) {
+            return Set.of();
+        }
+        int threshold = Math.min(REPEATED_LINE_THRESHOLD, pagesWithText);
+        Set<String> repeated = new HashSet<>();
+        occurrences.forEach((key, count) -> {
+            if (count >= threshold) {
+                repeated.add(key);
+            }
+        });
+        return repeated;
+    }
+
+    private static int firstLine(String[] lines) {
+        for (int i = 0; i < lines.length; i++) {
+            if (!lines[i].isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastLine(String[] lines) {
+        for (int i = lines.length - 1; i >= 0; i--) {
+            if (!lines[i].isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Agrupa parágrafos inteiros em seções de até {@code maxChars}; só quebra dentro de um parágrafo
+     * (por linha e, em último caso, por caractere) quando ele sozinho ultrapassa o limite.
+     */
+    List<String> split(String text, int maxChars) {
+        List<String> sections = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String paragraph : text.split("\n\n")) {
+            for (String piece : fit(paragraph, maxChars, "\n")) {
+                if (current.length() > 0 && current.length() + 2 + piece.length() > maxChars) {
+                    sections.add(current.toString());
+                    current.setLength(0);
+                }
+                if (current.length() > 0) {
+                    current.append("\n\n");
+                }
+                current.append(piece);
+            }
+        }
+        if (current.length() > 0) {
+            sections.add(current.toString());
+        }
+        return sections;
+    }
+
+    private static List<String> fit(String block, int maxChars, String separator) {
+        if (block.length() <= maxChars) {
+            return List.of(block);
+        }
+        if (separator == null) {
+            List<String> pieces = new ArrayList<>();
+            int start = 0;
+            while (start < block.length()) {
+                int end = Math.min(block.length(), start + maxChars);
+                int lastSpace = block.lastIndexOf(' ', end);
+                if (end < block.length() && lastSpace > start) {
+                    end = lastSpace;
+                }
+                pieces.add(block.substring(start, end).trim());
+                start = end;
+            }
+            return pieces;
+        }
+
+        List<String> pieces = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : block.split(separator)) {
+            for (String piece : fit(line, maxChars, null)) {
+                if (current.length() > 0 && current.length() + separator.length() + piece.length() > maxChars) {
+                    pieces.add(current.toString());
+                    current.setLength(0);
+                }
+                if (current.length() > 0) {
+                    current.append(separator);
+                }
+                current.append(piece);
+            }
+        }
+        if (current.length() > 0) {
+            pieces.add(current.toString());
+        }
+        return pieces;
+    }
+
+    private static String truncate(String text, int maxChars) {
+        // Prefere cortar no fim de um parágrafo ou linha, desde que não descarte mais de 10% do limite
+        int cut = text.lastIndexOf("\n\n", maxChars);
+        if (cut < maxChars * 0.9) {
+            cut = text.lastIndexOf('\n', maxChars);
+        }
+        if (cut < maxChars * 0.9) {
+            cut = maxChars;
+        }
+        return text.substring(0, cut);
+    }
+}
@@ -1,28 +1,41 @@
 package com.tellingmyresume.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.tellingmyresume.exception.BaseApplicationException;
 import com.tellingmyresume.exception.ResumeNotFoundException;
 import com.tellingmyresume.exception.ResumeStorageException;
 import com.tellingmyresume.exception.StorageException;
 import com.tellingmyresume.util.FileUtils;
+import com.tellingmyresume.utils.HashUtils;
 
 @Service
 public class ResumeService implements ResumeDataService {
     
     private final StorageService storageService;
     private final FileUtils fileUtils;
+    private final ResumeNameIndex resumeNameIndex;
+    private final TextExtractionExecutor extractionExecutor;
     
-    public ResumeService(StorageService storageService, FileUtils fileUtils) {
+    public ResumeService(StorageService storageService, FileUtils fileUtils, ResumeNameIndex resumeNameIndex,
+                         TextExtractionExecutor extractionExecutor) {
         this.storageService = storageService;
         this.fileUtils = fileUtils;
+        this.resumeNameIndex = resumeNameIndex;
+        this.extractionExecutor = extractionExecutor;
     }
     
     public void saveResume(String fileName, MultipartFile file) throws ResumeStorageException {
         try {
             validateResumeFile(file);
             storageService.save(fileName, file);
+            resumeNameIndex.add(fileName);
+            extractionExecutor.release(fileName);
         } catch (StorageException e) {
             throw new ResumeStorageException("Falha ao salvar o arquivo: " + e.getMessage(), e);
         }
@@ -31,28 +44,61 @@ public class ResumeService implements ResumeDataService {
     public String readResume(String fileName) throws ResumeNotFoundException {
         try {
             validateFileExists(fileName);
-            byte[] content = storageService.read(fileName);
-            return fileUtils.extractText(fileName, content);
+            Optional<String> extractedText = storageService.readExtractedText(fileName);
+            if (extractedText.isPresent()) {
+                return extractedText.get();
+            }
+            
+            // O checksum é lido antes: se o arquivo for substituído durante a extração, o texto não é gravado
+            String checksum = storageService.readContentChecksum(fileName).orElse(null);
+            
+            // Leitura e extração rodam no pool dedicado, com prazo, fora da thread da requisição
+            String text = extractionExecutor.execute(fileName,
+                    () -> storageService.readStream(fileName, content -> fileUtils.extractText(fileName, content)));
+            storageService.saveExtractedText(fileName, checksum, text);
+            return text;
         } catch (StorageException e) {
             throw new ResumeNotFoundException("Falha ao ler o arquivo: " + e.getMessage(), e);
+        } catch (BaseApplicationException e) {
+            // Quarentena, prazo, sobrecarga e arquivo inválido já carregam o status HTTP adequado
+            throw e;
         } catch (Exception e) {
             throw new ResumeNotFoundException("Erro ao processar o conteúdo do arquivo: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Identifica o conteúdo pelo checksum gravado no upload. Registros antigos, sem checksum,
+     * caem no hash do texto extraído.
+     */
+    public String readContentChecksum(String fileName) throws ResumeNotFoundException {
+        validateFileExists(fileName);
+        Optional<String> checksum = storageService.readContentChecksum(fileName);
+        if (checksum.isPresent()) {
+            return checksum.get();
+        }
+        return HashUtils.sha256Hex(readResume(fileName));
+    }
+    
     public boolean resumeExists(String fileName) {
-        return storageService.fileExists(fileName);
+        return resumeNameIndex.contains(fileName);
     }
     
     public void deleteResume(String fileName) throws ResumeNotFoundException {
         try {
             validateFileExists(fileName);
             storageService.delete(fileName);
+            resumeNameIndex.remove(fileName);
+            extractionExecutor.release(fileName);
         } catch (StorageException e) {
             throw new ResumeNotFoundException("Falha ao excluir o arquivo: " + e.getMessage(), e);
         }
     }
     
+    public List<String> findResumesUploadedSince(LocalDateTime since) {
+        return storageService.listFileNamesUploadedSince(since);
+    }
+    
     private void validateResumeFile(MultipartFile file) throws ResumeStorageException {
         if (file == null || file.isEmpty()) {
             throw new ResumeStorageException("Arquivo não pode estar vazio");
@@ -69,7 +115,7 @@ public class ResumeService implements ResumeDataService {
     }
     
     private void validateFileExists(String fileName) throws ResumeNotFoundException {
-        if (!storageService.fileExists(fileName)) {
+        if (!resumeNameIndex.contains(fileName)) {
             throw new ResumeNotFoundException("Arquivo não encontrado: " + fileName);
         }
     }
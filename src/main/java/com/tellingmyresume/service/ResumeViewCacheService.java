@@ -0,0 +1,92 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tellingmyresume.utils.HashUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache do HTML já renderizado da página de visualização, por checksum do conteúdo, provedor,
+ * idioma e versão do prompt. Uma visita repetida não dispara análise, formatação nem template,
+ * e o ETag/Last-Modified de cada entrada permite que navegadores e proxies revalidem com 304.
+ */
+@Service
+public class ResumeViewCacheService {
+
+    static final String CACHE_NAME = "resumeView";
+
+    private final Cache<ViewCacheKey, RenderedView> cache;
+    private final String promptVersion;
+
+    public ResumeViewCacheService(@Value("${analysis.view.cache.max-size:500}") long maxSize,
+                                  @Value("${analysis.cache.ttl:24h}") Duration ttl,
+                                  @Value("${analysis.cache.prompt-version:v1}") String promptVersion,
+                                  MeterRegistry meterRegistry) {
+        this.promptVersion = promptVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param contentChecksum O checksum do arquivo gravado no upload.
+     */
+    public ViewCacheKey keyFor(String contentChecksum, String aiProvider, Locale locale) {
+        return new ViewCacheKey(contentChecksum,
+                aiProvider == null ? "auto" : aiProvider.toLowerCase(Locale.ROOT),
+                locale.toLanguageTag(), promptVersion);
+    }
+
+    /**
+     * Retorna a página em cache ou renderiza uma nova. Páginas de erro são devolvidas
+     * ao cliente mas não ficam no cache.
+     *
+     * @param key A chave da página.
+     * @param renderer Gera o HTML e indica se a análise foi bem-sucedida.
+     * @return A página renderizada com seus validadores HTTP.
+     */
+    public RenderedView getOrRender(ViewCacheKey key, Supplier<RenderResult> renderer) {
+        RenderedView cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        RenderResult result = renderer.get();
+        RenderedView view = new RenderedView(result.html(),
+                "\"" + HashUtils.sha256Hex(result.html()).substring(0, 32) + "\"",
+                // Last-Modified tem resolução de segundos no HTTP
+                Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        if (result.cacheable()) {
+            cache.put(key, view);
+        }
+        return view;
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public record ViewCacheKey(String contentHash, String aiProvider, String locale, String promptVersion) {
+    }
+
+    public record RenderResult(String html, boolean cacheable) {
+    }
+
+    public record RenderedView(String html, String etag, Instant lastModified) {
+    }
+}
@@ -1,5 +1,11 @@
 package com.tellingmyresume.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.web.multipart.MultipartFile;
 
 import com.tellingmyresume.exception.StorageException;
@@ -10,7 +16,42 @@ public interface StorageService {
     
     byte[] read(String fileName) throws StorageException;
     
+    /**
+     * Lê o conteúdo armazenado como stream, sem materializar o arquivo inteiro em memória.
+     * O stream só é válido durante a execução do {@code reader}.
+     *
+     * @param fileName O nome do arquivo.
+     * @param reader A função que consome o conteúdo.
+     * @return O resultado produzido pelo {@code reader}.
+     */
+    <T> T readStream(String fileName, ContentReader<T> reader) throws StorageException;
+    
     boolean fileExists(String fileName);
     
     void delete(String fileName) throws StorageException;
-}
\ No newline at end of file
+    
+    Optional<String> readExtractedText(String fileName);
+    
+    /**
+     * Grava o texto extraído, desde que o arquivo ainda seja o que foi lido na extração.
+     * Se ele foi substituído nesse meio tempo, o texto antigo é descartado.
+     *
+     * @param fileName O nome do arquivo.
+     * @param expectedChecksum O checksum do conteúdo lido antes da extração.
+     * @param extractedText O texto extraído desse conteúdo.
+     */
+    void saveExtractedText(String fileName, String expectedChecksum, String extractedText) throws StorageException;
+    
+    /**
+     * @param fileName O nome do arquivo.
+     * @return O SHA-256 do conteúdo gravado no upload, sem ler o arquivo nem o texto extraído.
+     */
+    Optional<String> readContentChecksum(String fileName);
+    
+    List<String> listFileNamesUploadedSince(LocalDateTime since);
+    
+    @FunctionalInterface
+    interface ContentReader<T> {
+        T read(InputStream content) throws IOException;
+    }
+}
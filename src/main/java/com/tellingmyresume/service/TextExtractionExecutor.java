@@ -0,0 +1,222 @@
+package com.tellingmyresume.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tellingmyresume.exception.DocumentQuarantinedException;
+import com.tellingmyresume.exception.ExtractionOverloadedException;
+import com.tellingmyresume.exception.ExtractionTimeoutException;
+import com.tellingmyresume.utils.CorrelationIdUtils;
+import com.tellingmyresume.utils.ExtractionDeadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Executa a extração de texto dos currículos num pool próprio e limitado, separado das threads
+ * de requisição. Cada documento tem um prazo, contado a partir do momento em que a extração
+ * começa de fato: a espera na fila e por vagas de processamento (ver {@link ExtractionDeadline})
+ * não consome o prazo. Ao estourá-lo a tarefa é cancelada (a extração de PDF para na página
+ * seguinte). Documentos que estouram o prazo repetidas vezes ficam em quarentena e são recusados
+ * sem nova tentativa até o fim do período ou até serem enviados novamente.
+ *
+ * <p>Pool e fila cheios, ou uma espera na fila maior que {@code queue-timeout}, resultam em
+ * {@link ExtractionOverloadedException} e não contam para a quarentena.
+ */
+@Component
+public class TextExtractionExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TextExtractionExecutor.class);
+
+    static final String DURATION_METRIC = "resume.extraction.duration";
+    static final String REJECTED_METRIC = "resume.extraction.rejected";
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Duration queueTimeout;
+    private final int maxTimeouts;
+    private final Cache<String, Integer> timeoutCounts;
+    private final MeterRegistry meterRegistry;
+
+    public TextExtractionExecutor(@Value("${extraction.worker.pool-size:4}") int poolSize,
+                                  @Value("${extraction.worker.queue-capacity:32}") int queueCapacity,
+                                  @Value("${extraction.worker.timeout:30s}") Duration timeout,
+                                  @Value("${extraction.worker.queue-timeout:30s}") Duration queueTimeout,
+                                  @Value("${extraction.quarantine.max-timeouts:2}") int maxTimeouts,
+                                  @Value("${extraction.quarantine.ttl:24h}") Duration quarantineTtl,
+                                  MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.queueTimeout = queueTimeout;
+        this.maxTimeouts = maxTimeouts;
+        this.meterRegistry = meterRegistry;
+        this.timeoutCounts = Caffeine.newBuilder()
+                .expireAfterWrite(quarantineTtl)
+                .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "text-extraction-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("resume.extraction.queue", executor, pool -> pool.getQueue().size())
+                .description("Extrações aguardando uma thread livre")
+                .register(meterRegistry);
+        Gauge.builder("resume.extraction.quarantined", timeoutCounts, this::countQuarantined)
+                .description("Documentos em quarentena por estourar o prazo de extração")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa a extração no pool dedicado e aguarda o resultado até o prazo configurado.
+     *
+     * @param documentKey Identifica o documento para a quarentena (o nome do arquivo).
+     * @param extraction A extração a executar.
+     * @return O resultado da extração.
+     * @throws DocumentQuarantinedException Se o documento estiver em quarentena.
+     * @throws ExtractionOverloadedException Se o pool e a fila estiverem cheios ou a espera na fila estourar.
+     * @throws ExtractionTimeoutException Se a extração não terminar no prazo.
+     * @throws Exception A falha da própria extração.
+     */
+    public <T> T execute(String documentKey, Callable<T> extraction) throws Exception {
+        if (isQuarantined(documentKey)) {
+            countRejection("quarantined");
+            throw new DocumentQuarantinedException("Documento em quarentena após estourar o prazo de extração: " + documentKey);
+        }
+
+        AtomicLong startedAt = new AtomicLong();
+        Future<T> future;
+        try {
+            future = executor.submit(ExtractionDeadline.track(startedAt, CorrelationIdUtils.withCurrentContext(extraction)));
+        } catch (RejectedExecutionException e) {
+            countRejection("saturated");
+            throw new ExtractionOverloadedException("Fila de extração de texto cheia", e);
+        }
+
+        long submittedAt = System.nanoTime();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = await(future, startedAt, submittedAt);
+            timeoutCounts.invalidate(documentKey);
+            outcome = "success";
+            return result;
+        } catch (QueueTimeoutException e) {
+            outcome = "queued";
+            future.cancel(true);
+            countRejection("queue-timeout");
+            throw new ExtractionOverloadedException("Extração de " + documentKey + " aguardou mais de "
+                    + queueTimeout + " na fila");
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            future.cancel(true);
+            int timeouts = timeoutCounts.asMap().merge(documentKey, 1, Integer::sum);
+            LOGGER.warn("Extração de {} excedeu {} ({} de {} até a quarentena)",
+                    documentKey, timeout, timeouts, maxTimeouts);
+            throw new ExtractionTimeoutException("Extração de " + documentKey + " excedeu " + timeout, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(DURATION_METRIC, "outcome", outcome));
+        }
+    }
+
+    /**
+     * Espera o resultado recalculando o prazo a cada volta: enquanto a tarefa está na fila vale
+     * {@code queueTimeout} desde o envio; executando, o prazo é contado desde o último início ou
+     * retomada. Fora da execução, cada espera dura no máximo um prazo, para que uma tarefa que
+     * comece ou retome no meio dela ainda seja interrompida a tempo.
+     */
+    private <T> T await(Future<T> future, AtomicLong startedAt, long submittedAt)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        while (true) {
+            long state = startedAt.get();
+            long now = System.nanoTime();
+            long waitNanos;
+            if (state == ExtractionDeadline.QUEUED) {
+                long queueRemaining = submittedAt + queueTimeout.toNanos() - now;
+                if (queueRemaining <= 0) {
+                    throw new QueueTimeoutException();
+                }
+                // Acorda a tempo de aplicar o prazo caso a tarefa comece durante a espera
+                waitNanos = Math.min(queueRemaining, timeout.toNanos());
+            } else if (state == ExtractionDeadline.PAUSED) {
+                waitNanos = timeout.toNanos();
+            } else {
+                waitNanos = state + timeout.toNanos() - now;
+                if (waitNanos <= 0) {
+                    throw new TimeoutException();
+                }
+            }
+            try {
+                return future.get(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // O estado pode ter mudado durante a espera; a próxima volta decide
+            }
+        }
+    }
+
+    public boolean isQuarantined(String documentKey) {
+        Integer timeouts = timeoutCounts.getIfPresent(documentKey);
+        return timeouts != null && timeouts >= maxTimeouts;
+    }
+
+    /**
+     * Tira o documento da quarentena, por exemplo quando um novo arquivo é enviado com o mesmo nome.
+     */
+    public void release(String documentKey) {
+        timeoutCounts.invalidate(documentKey);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void countRejection(String reason) {
+        Counter.builder(REJECTED_METRIC)
+                .description("Extrações recusadas sem execução")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private double countQuarantined(Cache<String, Integer> counts) {
+        return counts.asMap().values().stream().filter(timeouts -> timeouts >= maxTimeouts).count();
+    }
+
+    private static final class QueueTimeoutException extends TimeoutException {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -7,21 +7,46 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import com.tellingmyresume.dto.request.RoutingWeightsRequest;
 import com.tellingmyresume.dto.response.ProviderStatusResponse;
+import com.tellingmyresume.dto.response.RoutingStatusResponse;
 import com.tellingmyresume.service.AIAnalysisService;
 import com.tellingmyresume.service.AIProviderService;
+import com.tellingmyresume.service.ClaudeService;
+import com.tellingmyresume.service.GeminiService;
+import com.tellingmyresume.service.ProviderHealthMonitor;
+import com.tellingmyresume.service.ProviderRoutingEngine;
+import com.tellingmyresume.service.ProviderRoutingEngine.RoutingWeights;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 
 @Service
 public class AIProviderServiceImpl implements AIProviderService {
     
-    private final AIAnalysisService claudeService;
-    private final AIAnalysisService geminiService;
+    private static final List<String> PROVIDER_PRIORITY = List.of("Claude", "Gemini");
+    
+    private static final Map<String, String> RESILIENCE_INSTANCES = Map.of(
+        "Claude", ClaudeService.RESILIENCE_INSTANCE,
+        "Gemini", GeminiService.RESILIENCE_INSTANCE
+    );
+    
     private final Map<String, AIAnalysisService> providerMap;
+    private final ProviderRoutingEngine routingEngine;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ProviderHealthMonitor healthMonitor;
     
     public AIProviderServiceImpl(@Qualifier("claudeService") AIAnalysisService claudeService,
-                               @Qualifier("geminiService") AIAnalysisService geminiService) {
-        this.claudeService = claudeService;
-        this.geminiService = geminiService;
+                               @Qualifier("geminiService") AIAnalysisService geminiService,
+                               ProviderRoutingEngine routingEngine,
+                               CircuitBreakerRegistry circuitBreakerRegistry,
+                               BulkheadRegistry bulkheadRegistry,
+                               ProviderHealthMonitor healthMonitor) {
+        this.routingEngine = routingEngine;
+        this.healthMonitor = healthMonitor;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
         this.providerMap = Map.of(
             "Claude", claudeService,
             "Gemini", geminiService
@@ -30,41 +55,57 @@ public class AIProviderServiceImpl implements AIProviderService {
 
     @Override
     public List<String> getAvailableProviders() {
-        return providerMap.entrySet().stream()
-                .filter(entry -> entry.getValue().isServiceAvailable())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        return availableProviders(getProviderStatus());
     }
 
     @Override
     public Map<String, Boolean> getProviderStatus() {
-        return providerMap.entrySet().stream()
-                .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    entry -> entry.getValue().isServiceAvailable()
-                ));
+        return providerMap.keySet().stream()
+                .collect(Collectors.toMap(name -> name, this::isUp));
     }
 
     @Override
     public ProviderStatusResponse getSystemStatus() {
+        // Disponibilidade calculada uma única vez e reaproveitada; nenhuma chamada aos provedores aqui
         Map<String, Boolean> status = getProviderStatus();
-        List<String> available = getAvailableProviders();
-        String preferred = getPreferredProvider();
+        List<String> available = availableProviders(status);
+        String preferred = preferredProvider(status);
         boolean hasAvailable = !available.isEmpty();
         
-        return new ProviderStatusResponse(status, available, preferred, hasAvailable);
+        ProviderStatusResponse response = new ProviderStatusResponse(status, available, preferred, hasAvailable);
+        response.setProviderHealth(healthMonitor.snapshot());
+        response.setCircuitBreakerStates(RESILIENCE_INSTANCES.entrySet().stream()
+                .collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> circuitBreakerRegistry.circuitBreaker(entry.getValue()).getState().name()
+                )));
+        response.setBulkheadAvailableCalls(RESILIENCE_INSTANCES.entrySet().stream()
+                .collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> bulkheadRegistry.bulkhead(entry.getValue()).getMetrics().getAvailableConcurrentCalls()
+                )));
+        return response;
     }
 
     @Override
     public String getPreferredProvider() {
-        // Priority: Claude first, then Gemini
-        if (claudeService.isServiceAvailable()) {
-            return "Claude";
-        }
-        if (geminiService.isServiceAvailable()) {
-            return "Gemini";
-        }
-        return null;
+        return preferredProvider(getProviderStatus());
+    }
+
+    @Override
+    public RoutingStatusResponse getRoutingStatus() {
+        RoutingWeights weights = routingEngine.getWeights();
+        return new RoutingStatusResponse(
+            Map.of("latency", weights.latency(), "errorRate", weights.errorRate(), "cost", weights.cost()),
+            routingEngine.snapshot(PROVIDER_PRIORITY),
+            routingEngine.currentOrder(PROVIDER_PRIORITY)
+        );
+    }
+
+    @Override
+    public RoutingStatusResponse updateRoutingWeights(RoutingWeightsRequest request) {
+        routingEngine.updateWeights(new RoutingWeights(request.getLatency(), request.getErrorRate(), request.getCost()));
+        return getRoutingStatus();
     }
 
     @Override
@@ -72,7 +113,29 @@ public class AIProviderServiceImpl implements AIProviderService {
         if (providerName == null) {
             return false;
         }
-        AIAnalysisService service = providerMap.get(providerName);
-        return service != null && service.isServiceAvailable();
+        return providerMap.containsKey(providerName) && isUp(providerName);
+    }
+    
+    /**
+     * Configuração e circuito do serviço, combinados com o último resultado da sondagem ativa.
+     */
+    private boolean isUp(String providerName) {
+        return healthMonitor.isHealthy(providerName) && providerMap.get(providerName).isServiceAvailable();
+    }
+    
+    private static List<String> availableProviders(Map<String, Boolean> status) {
+        return PROVIDER_PRIORITY.stream()
+                .filter(status::get)
+                .collect(Collectors.toList());
+    }
+    
+    private String preferredProvider(Map<String, Boolean> status) {
+        // Ordem definida pelo roteamento adaptativo; sem métricas suficientes, Claude e depois Gemini
+        for (String provider : routingEngine.currentOrder(PROVIDER_PRIORITY)) {
+            if (status.get(provider)) {
+                return provider;
+            }
+        }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.tellingmyresume.service.impl;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.tellingmyresume.dto.request.AnalysisJobRequest;
+import com.tellingmyresume.dto.response.AnalysisJobResponse;
+import com.tellingmyresume.exception.InvalidCallbackUrlException;
+import com.tellingmyresume.exception.ResumeNotFoundException;
+import com.tellingmyresume.model.AnalysisJob;
+import com.tellingmyresume.repository.AnalysisJobRepository;
+import com.tellingmyresume.service.AnalysisJobService;
+import com.tellingmyresume.service.CallbackUrlPolicy;
+import com.tellingmyresume.service.ResumeDataService;
+
+@Service
+public class AnalysisJobServiceImpl implements AnalysisJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnalysisJobServiceImpl.class);
+
+    private final AnalysisJobRepository jobRepository;
+    private final ResumeDataService resumeService;
+    private final CallbackUrlPolicy callbackUrlPolicy;
+
+    public AnalysisJobServiceImpl(AnalysisJobRepository jobRepository, ResumeDataService resumeService,
+                                  CallbackUrlPolicy callbackUrlPolicy) {
+        this.jobRepository = jobRepository;
+        this.resumeService = resumeService;
+        this.callbackUrlPolicy = callbackUrlPolicy;
+    }
+
+    @Override
+    public AnalysisJobResponse submitJob(AnalysisJobRequest request) throws ResumeNotFoundException, InvalidCallbackUrlException {
+        if (!resumeService.resumeExists(request.getFileName())) {
+            throw new ResumeNotFoundException("Arquivo não encontrado: " + request.getFileName());
+        }
+        if (request.getCallbackUrl() != null) {
+            callbackUrlPolicy.validate(request.getCallbackUrl());
+        }
+
+        String aiProvider = request.getAiProvider() == null || request.getAiProvider().isBlank()
+                ? null : request.getAiProvider();
+        AnalysisJob job = jobRepository.save(new AnalysisJob(request.getFileName(), aiProvider, request.getCallbackUrl()));
+        LOGGER.info("Job de análise {} enfileirado para {}", job.getId(), job.getFileName());
+        return AnalysisJobResponse.from(job);
+    }
+
+    @Override
+    public Optional<AnalysisJobResponse> getJob(String jobId) {
+        return jobRepository.findById(jobId).map(AnalysisJobResponse::from);
+    }
+}
@@ -0,0 +1,181 @@
+package com.tellingmyresume.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.tellingmyresume.dto.request.BatchAnalysisRequest;
+import com.tellingmyresume.dto.response.BatchAnalysisResponse;
+import com.tellingmyresume.dto.response.BatchAnalysisResponse.Item;
+import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
+import com.tellingmyresume.exception.AIServiceException;
+import com.tellingmyresume.exception.BatchTooLargeException;
+import com.tellingmyresume.exception.GenericAIServiceException;
+import com.tellingmyresume.exception.ResumeBusinessException;
+import com.tellingmyresume.service.AIAnalysisService;
+import com.tellingmyresume.service.BatchAnalysisService;
+import com.tellingmyresume.service.ProviderConcurrencyLimiter;
+import com.tellingmyresume.service.ResumeAnalysisService;
+import com.tellingmyresume.service.ResumeDataService;
+import com.tellingmyresume.utils.CorrelationIdUtils;
+
+@Service
+public class BatchAnalysisServiceImpl implements BatchAnalysisService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchAnalysisServiceImpl.class);
+
+    private final ResumeAnalysisService resumeAnalysisService;
+    private final ResumeDataService resumeService;
+    private final List<AIAnalysisService> providers;
+    private final ProviderConcurrencyLimiter concurrencyLimiter;
+    private final Executor executor;
+
+    public BatchAnalysisServiceImpl(ResumeAnalysisService resumeAnalysisService,
+                                    ResumeDataService resumeService,
+                                    @Qualifier("claudeService") AIAnalysisService claudeService,
+                                    @Qualifier("geminiService") AIAnalysisService geminiService,
+                                    ProviderConcurrencyLimiter concurrencyLimiter,
+                                    @Qualifier("taskExecutor") Executor executor) {
+        this.resumeAnalysisService = resumeAnalysisService;
+        this.resumeService = resumeService;
+        this.providers = List.of(claudeService, geminiService);
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.executor = executor;
+    }
+
+    /**
+     * Analisa os currículos do lote em paralelo. Cada item ocupa uma vaga do provedor que o atende,
+     * de preferência um que esteja ocioso, e, se a análise falhar, tenta o próximo provedor disponível.
+     * O número de workers é a soma dos limites dos provedores, então o lote nunca passa desses limites.
+     */
+    @Override
+    public BatchAnalysisResponse analyzeBatch(BatchAnalysisRequest request) throws AIServiceException {
+        long startTime = System.nanoTime();
+
+        List<String> fileNames = request.getUploadedSince() != null
+                ? resumeService.findResumesUploadedSince(request.getUploadedSince())
+                : request.getFileNames().stream().distinct().toList();
+        if (fileNames.size() > BatchAnalysisRequest.MAX_FILES) {
+            // A validação do request só limita fileNames; o período pode selecionar mais arquivos
+            throw new BatchTooLargeException(fileNames.size(), BatchAnalysisRequest.MAX_FILES);
+        }
+        List<String> candidates = resolveProviders(request.getAiProvider());
+
+        AtomicReferenceArray<Item> results = new AtomicReferenceArray<>(fileNames.size());
+        ConcurrentLinkedQueue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < fileNames.size(); i++) {
+            pending.add(i);
+        }
+
+        int workerCount = Math.min(fileNames.size(),
+                candidates.stream().mapToInt(concurrencyLimiter::limitFor).sum());
+        List<FutureTask<Void>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            FutureTask<Void> worker = new FutureTask<>(CorrelationIdUtils.withCurrentContext(() -> {
+                Integer index;
+                while ((index = pending.poll()) != null) {
+                    results.set(index, analyzeItem(fileNames.get(index), candidates));
+                }
+                return null;
+            }));
+            workers.add(worker);
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Executor cheio; o worker {} do lote rodará na thread atual", i + 1);
+            }
+        }
+
+        try {
+            // Workers recusados ou ainda na fila rodam na thread atual, que também consome os itens
+            // pendentes; run() não faz nada se o worker já começou. Os limites por provedor continuam valendo.
+            workers.forEach(FutureTask::run);
+            for (FutureTask<Void> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            workers.forEach(worker -> worker.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new GenericAIServiceException("System", "Análise em lote interrompida", e);
+        } catch (ExecutionException e) {
+            workers.forEach(worker -> worker.cancel(true));
+            throw new GenericAIServiceException("System", "Falha na análise em lote: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        List<Item> items = new ArrayList<>(fileNames.size());
+        for (int i = 0; i < fileNames.size(); i++) {
+            items.add(results.get(i));
+        }
+
+        long totalDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        LOGGER.info("Lote de {} currículos analisado em {} ms com {} workers", items.size(), totalDurationMs, workerCount);
+        return new BatchAnalysisResponse(items, totalDurationMs);
+    }
+
+    private Item analyzeItem(String fileName, List<String> candidates) throws InterruptedException {
+        long startTime = System.nanoTime();
+        ResumeAnalysisResponse lastResponse = null;
+        String lastProvider = null;
+        String lastError = null;
+
+        // Um provedor com vaga livre vem primeiro, para o lote usar todos em paralelo
+        for (String provider : concurrencyLimiter.orderByFreePermits(candidates)) {
+            try {
+                ResumeAnalysisResponse response = concurrencyLimiter.execute(provider,
+                        () -> resumeAnalysisService.analyzeResumeWithProvider(fileName, provider));
+                if (response.isSuccess()) {
+                    return Item.of(response, elapsedMillis(startTime));
+                }
+                lastResponse = response;
+            } catch (ResumeBusinessException e) {
+                return Item.error(fileName, null, e.getMessage(), elapsedMillis(startTime));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                LOGGER.warn("Falha ao analisar {} com {} no lote: {}", fileName, provider, e.getMessage());
+                lastProvider = provider;
+                lastError = e.getMessage();
+            }
+        }
+
+        return lastResponse != null
+                ? Item.of(lastResponse, elapsedMillis(startTime))
+                : Item.error(fileName, lastProvider, lastError, elapsedMillis(startTime));
+    }
+
+    private List<String> resolveProviders(String aiProvider) throws AIServiceException {
+        List<AIAnalysisService> selected = providers.stream()
+                .filter(service -> aiProvider == null || aiProvider.isBlank()
+                        || service.getProviderName().equalsIgnoreCase(aiProvider))
+                .toList();
+
+        if (selected.isEmpty()) {
+            throw new GenericAIServiceException(aiProvider, "Provedor de IA não suportado: " + aiProvider);
+        }
+
+        List<String> available = selected.stream()
+                .filter(AIAnalysisService::isServiceAvailable)
+                .map(AIAnalysisService::getProviderName)
+                .toList();
+
+        if (available.isEmpty()) {
+            throw new GenericAIServiceException("System", "Nenhum serviço de IA está disponível");
+        }
+        return available;
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+}
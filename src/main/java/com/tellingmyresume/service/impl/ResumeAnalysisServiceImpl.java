@@ -1,7 +1,19 @@
 package com.tellingmyresume.service.impl;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,37 +21,75 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import com.tellingmyresume.constants.ErrorMessages;
 import com.tellingmyresume.dto.request.ResumeUploadRequest;
+import com.tellingmyresume.dto.response.AnalysisStreamEvent;
 import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
 import com.tellingmyresume.dto.response.ResumeContentResponse;
 import com.tellingmyresume.dto.response.ResumeUploadResponse;
 import com.tellingmyresume.exception.AIServiceException;
 import com.tellingmyresume.exception.GenericAIServiceException;
+import com.tellingmyresume.exception.ResumeBusinessException;
 import com.tellingmyresume.exception.ResumeNotFoundException;
 import com.tellingmyresume.exception.ResumeStorageException;
 import com.tellingmyresume.mapper.ResumeMapperInterface;
 import com.tellingmyresume.service.AIAnalysisService;
+import com.tellingmyresume.service.AnalysisCacheService;
+import com.tellingmyresume.service.AnalysisCacheService.AnalysisCacheKey;
+import com.tellingmyresume.service.HedgedRequestExecutor;
+import com.tellingmyresume.service.ProviderRoutingEngine;
 import com.tellingmyresume.service.ResumeAnalysisService;
 import com.tellingmyresume.service.ResumeDataService;
+import com.tellingmyresume.service.ResumePreprocessor;
+import com.tellingmyresume.service.ResumePreprocessor.PreparedResume;
+import com.tellingmyresume.utils.CorrelationIdUtils;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(ResumeAnalysisServiceImpl.class);
     
+    private static final List<String> PROVIDER_PRIORITY = List.of("Claude", "Gemini");
+    
+    private static final String SECTION_TEMPLATE = "[Seção %d de %d]\n%s";
+    
+    private static final String MERGE_HEADER =
+            "O currículo é longo e foi analisado por seções. Consolide as análises parciais abaixo em um único resumo:";
+    
     private final ResumeDataService resumeService;
     private final AIAnalysisService claudeService;
     private final AIAnalysisService geminiService;
     private final ResumeMapperInterface resumeMapper;
+    private final AnalysisCacheService analysisCache;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final ProviderRoutingEngine routingEngine;
+    private final ResumePreprocessor preprocessor;
+    private final Executor sectionExecutor;
     
     public ResumeAnalysisServiceImpl(ResumeDataService resumeService,
                                    @Qualifier("claudeService") AIAnalysisService claudeService,
                                    @Qualifier("geminiService") AIAnalysisService geminiService,
-                                   ResumeMapperInterface resumeMapper) {
+                                   ResumeMapperInterface resumeMapper,
+                                   AnalysisCacheService analysisCache,
+                                   HedgedRequestExecutor hedgedRequestExecutor,
+                                   ProviderRoutingEngine routingEngine,
+                                   ResumePreprocessor preprocessor,
+                                   @Qualifier("taskExecutor") Executor sectionExecutor) {
         this.resumeService = resumeService;
         this.claudeService = claudeService;
         this.geminiService = geminiService;
         this.resumeMapper = resumeMapper;
+        this.analysisCache = analysisCache;
+        this.hedgedRequestExecutor = hedgedRequestExecutor;
+        this.routingEngine = routingEngine;
+        this.preprocessor = preprocessor;
+        this.sectionExecutor = sectionExecutor;
     }
 
     @Override
@@ -61,19 +111,38 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
         return resumeMapper.toContentResponse(fileName, content, "text/plain");
     }
 
+    @Override
+    public String getResumeChecksum(String fileName) throws ResumeNotFoundException {
+        return resumeService.readContentChecksum(fileName);
+    }
+
     @Override
     public ResumeAnalysisResponse analyzeResumeWithProvider(String fileName, String aiProvider) 
             throws ResumeNotFoundException, AIServiceException {
         
         String resumeContent = resumeService.readResume(fileName);
         AIAnalysisService analysisService = getAnalysisService(aiProvider);
+        AnalysisCacheKey cacheKey = analysisCache.keyFor(fileName, resumeContent, analysisService.getProviderName());
+        
+        Optional<String> cachedAnalysis = analysisCache.get(cacheKey);
+        if (cachedAnalysis.isPresent()) {
+            LOGGER.debug("Análise do currículo {} com {} servida do cache", fileName, aiProvider);
+            return resumeMapper.toAnalysisResponse(fileName, cachedAnalysis.get(), aiProvider);
+        }
         
         if (!analysisService.isServiceAvailable()) {
             throw new GenericAIServiceException(aiProvider, "Serviço " + aiProvider + " não está disponível");
         }
         
         try {
-            String analysis = analysisService.generateResume(resumeContent);
+            String analysis = analysisCache.getOrLoad(cacheKey,
+                    () -> generateAnalysis(analysisService, aiProvider, resumeContent),
+                    result -> !ErrorMessages.GEMINI_FALLBACK_MESSAGE.equals(result));
+            if (ErrorMessages.GEMINI_FALLBACK_MESSAGE.equals(analysis)) {
+                // O fallback do provedor é um aviso de falha, não uma análise: quem chama deve tentar outro provedor
+                LOGGER.warn("Serviço {} devolveu a mensagem de fallback para o currículo {}", aiProvider, fileName);
+                return resumeMapper.toAnalysisErrorResponse(fileName, analysis, aiProvider);
+            }
             return resumeMapper.toAnalysisResponse(fileName, analysis, aiProvider);
         } catch (AIServiceException e) {
             LOGGER.error("Erro ao analisar currículo {} com {}: {}", fileName, aiProvider, e.getMessage());
@@ -99,12 +168,23 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
     public ResumeAnalysisResponse analyzeResumeWithBestAvailable(String fileName) 
             throws ResumeNotFoundException, AIServiceException {
         
-        List<AIAnalysisService> services = List.of(claudeService, geminiService);
+        List<AIAnalysisService> services = rankServices();
+        
+        if (hedgedRequestExecutor.isEnabled()) {
+            return analyzeResumeWithHedging(fileName, services);
+        }
         
+        ResumeAnalysisResponse lastError = null;
         for (AIAnalysisService service : services) {
             if (service.isServiceAvailable()) {
                 try {
-                    return analyzeResumeWithProvider(fileName, service.getProviderName());
+                    ResumeAnalysisResponse response = analyzeResumeWithProvider(fileName, service.getProviderName());
+                    if (response.isSuccess()) {
+                        return response;
+                    }
+                    // Circuito aberto ou bulkhead cheio voltam como resposta de erro: tenta o próximo provedor
+                    LOGGER.warn("Serviço {} não concluiu a análise: {}", service.getProviderName(), response.getAnalysis());
+                    lastError = response;
                 } catch (AIServiceException e) {
                     LOGGER.warn("Falha ao usar serviço {}: {}", service.getProviderName(), e.getMessage());
                     continue;
@@ -112,9 +192,37 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
             }
         }
         
+        if (lastError != null) {
+            return lastError;
+        }
         throw new GenericAIServiceException("System", "Nenhum serviço de IA está disponível");
     }
 
+    @Override
+    public Flux<AnalysisStreamEvent> streamResumeAnalysis(String fileName, String aiProvider) 
+            throws ResumeNotFoundException, AIServiceException {
+        
+        // Leitura e validação acontecem antes do stream, para que 404/400 ainda virem respostas HTTP normais
+        String resumeContent = resumeService.readResume(fileName);
+        
+        List<AIAnalysisService> candidates;
+        if (aiProvider == null || aiProvider.isBlank()) {
+            candidates = List.of(claudeService, geminiService).stream()
+                    .filter(AIAnalysisService::isServiceAvailable)
+                    .toList();
+        } else {
+            AIAnalysisService analysisService = getAnalysisService(aiProvider);
+            candidates = analysisService.isServiceAvailable() ? List.of(analysisService) : List.of();
+        }
+        
+        if (candidates.isEmpty()) {
+            throw new GenericAIServiceException(aiProvider == null ? "System" : aiProvider,
+                    "Nenhum serviço de IA está disponível");
+        }
+        
+        return streamWithFallback(fileName, resumeContent, candidates, 0);
+    }
+
     @Override
     public boolean isResumeAvailable(String fileName) {
         return resumeService.resumeExists(fileName);
@@ -123,6 +231,244 @@ public class ResumeAnalysisServiceImpl implements ResumeAnalysisService {
     @Override
     public void deleteResume(String fileName) throws ResumeNotFoundException {
         resumeService.deleteResume(fileName);
+        analysisCache.invalidate(fileName);
+    }
+    
+    /**
+     * Dispara os provedores disponíveis em corrida: o secundário só entra após o atraso de hedge
+     * (ou imediatamente, se o primário falhar) e a primeira análise bem-sucedida é retornada.
+     */
+    private ResumeAnalysisResponse analyzeResumeWithHedging(String fileName, List<AIAnalysisService> services) {
+        List<Callable<ResumeAnalysisResponse>> attempts = services.stream()
+                .filter(AIAnalysisService::isServiceAvailable)
+                .map(service -> (Callable<ResumeAnalysisResponse>) () ->
+                        analyzeResumeWithProvider(fileName, service.getProviderName()))
+                .toList();
+        
+        if (attempts.isEmpty()) {
+            throw new GenericAIServiceException("System", "Nenhum serviço de IA está disponível");
+        }
+        
+        try {
+            return hedgedRequestExecutor.invoke(attempts, ResumeAnalysisResponse::isSuccess);
+        } catch (ResumeBusinessException e) {
+            // Falhas ao ler o currículo não melhoram com outro provedor
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenericAIServiceException("System", "Análise interrompida", e);
+        } catch (Exception e) {
+            LOGGER.warn("Falha em todos os provedores para {}: {}", fileName, e.getMessage());
+            throw new GenericAIServiceException("System", "Nenhum serviço de IA está disponível", e);
+        }
+    }
+    
+    /**
+     * Transmite a análise do provedor {@code index}. Se ele falhar antes de emitir qualquer trecho,
+     * o próximo candidato assume; depois do primeiro trecho o erro é repassado ao cliente.
+     * O texto completo vai para o cache ao final, e um acerto no cache é emitido de uma só vez.
+     * A amostra de roteamento é registrada quando o stream termina; streams cancelados pelo cliente,
+     * acertos no cache e chamadas rejeitadas pelo circuito ou bulkhead não viram amostra.
+     */
+    private Flux<AnalysisStreamEvent> streamWithFallback(String fileName, String resumeContent,
+                                                         List<AIAnalysisService> candidates, int index) {
+        AIAnalysisService service = candidates.get(index);
+        String provider = service.getProviderName();
+        AnalysisCacheKey cacheKey = analysisCache.keyFor(fileName, resumeContent, provider);
+        
+        return Flux.defer(() -> {
+            Optional<String> cachedAnalysis = analysisCache.get(cacheKey);
+            if (cachedAnalysis.isPresent()) {
+                LOGGER.debug("Análise do currículo {} com {} servida do cache", fileName, provider);
+                return Flux.just(AnalysisStreamEvent.chunk(provider, cachedAnalysis.get()),
+                        AnalysisStreamEvent.complete(provider));
+            }
+            
+            long startTime = System.nanoTime();
+            StringBuilder analysis = new StringBuilder();
+            AtomicBoolean emitted = new AtomicBoolean(false);
+            
+            return streamAnalysis(service, provider, resumeContent)
+                    .doOnNext(chunk -> {
+                        emitted.set(true);
+                        analysis.append(chunk);
+                    })
+                    .map(chunk -> AnalysisStreamEvent.chunk(provider, chunk))
+                    .concatWith(Mono.fromSupplier(() -> {
+                        recordSample(provider, startTime, analysis.length() > 0, resumeContent, analysis.toString());
+                        if (analysis.length() > 0) {
+                            analysisCache.put(cacheKey, analysis.toString());
+                        }
+                        return AnalysisStreamEvent.complete(provider);
+                    }))
+                    .doOnError(e -> {
+                        if (!isRejection(e)) {
+                            recordSample(provider, startTime, false, resumeContent, analysis.toString());
+                        }
+                    })
+                    .onErrorResume(e -> {
+                        if (!emitted.get() && index + 1 < candidates.size()) {
+                            LOGGER.warn("Falha ao iniciar streaming com {}: {}", provider, e.getMessage());
+                            return streamWithFallback(fileName, resumeContent, candidates, index + 1);
+                        }
+                        LOGGER.error("Erro no streaming da análise do currículo {} com {}: {}",
+                                fileName, provider, e.getMessage());
+                        return Flux.just(AnalysisStreamEvent.error(provider, e.getMessage()));
+                    });
+        });
+    }
+    
+    /**
+     * Documentos curtos vão direto ao provedor já normalizados. Os longos são divididos em seções
+     * analisadas em paralelo (map), e as análises parciais são consolidadas numa chamada final (reduce).
+     */
+    private String generateAnalysis(AIAnalysisService analysisService, String aiProvider, String resumeContent) {
+        // Capturado aqui porque as seções rodam em outras threads
+        BooleanSupplier cancelled = HedgedRequestExecutor.currentAttemptCancellation();
+        PreparedResume prepared = preprocessor.prepare(resumeContent);
+        if (!prepared.isChunked()) {
+            return generateAndRecord(analysisService, aiProvider, prepared.text(), cancelled);
+        }
+        return generateAndRecord(analysisService, aiProvider,
+                analyzeSections(analysisService, aiProvider, prepared, cancelled), cancelled);
+    }
+    
+    private Flux<String> streamAnalysis(AIAnalysisService analysisService, String aiProvider, String resumeContent) {
+        PreparedResume prepared = preprocessor.prepare(resumeContent);
+        if (!prepared.isChunked()) {
+            return analysisService.generateResumeStream(prepared.text());
+        }
+        // Apenas a consolidação final é transmitida; as seções são analisadas antes, fora da thread do stream
+        return Mono.fromCallable(() -> analyzeSections(analysisService, aiProvider, prepared, () -> false))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(analysisService::generateResumeStream);
+    }
+    
+    /**
+     * Analisa cada seção em paralelo e devolve as análises parciais concatenadas na ordem original,
+     * prontas para a chamada de consolidação. A falha de qualquer seção cancela as demais.
+     */
+    private String analyzeSections(AIAnalysisService analysisService, String aiProvider, PreparedResume prepared,
+                                   BooleanSupplier cancelled) {
+        List<String> sections = prepared.sections();
+        LOGGER.info("Currículo com ~{} tokens dividido em {} seções para análise com {}",
+                prepared.estimatedTokens(), sections.size(), aiProvider);
+        
+        List<FutureTask<String>> tasks = new ArrayList<>(sections.size());
+        for (int i = 0; i < sections.size(); i++) {
+            String sectionContent = String.format(SECTION_TEMPLATE, i + 1, sections.size(), sections.get(i));
+            FutureTask<String> task = new FutureTask<>(CorrelationIdUtils.withCurrentContext(
+                    () -> generateAndRecord(analysisService, aiProvider, sectionContent, cancelled)));
+            tasks.add(task);
+            try {
+                sectionExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Executor cheio; a seção {} será analisada na thread atual", i + 1);
+            }
+        }
+        
+        StringBuilder partials = new StringBuilder(MERGE_HEADER);
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                // Seções que ainda não começaram rodam na thread atual: evita esperar por um pool ocupado
+                // (inclusive pelos próprios workers do lote); run() não faz nada se a tarefa já iniciou
+                tasks.get(i).run();
+                String partial = tasks.get(i).get();
+                if (ErrorMessages.GEMINI_FALLBACK_MESSAGE.equals(partial)) {
+                    throw new GenericAIServiceException(aiProvider,
+                            "Falha ao analisar a seção " + (i + 1) + " de " + sections.size());
+                }
+                partials.append("\n\n").append(String.format(SECTION_TEMPLATE, i + 1, sections.size(), partial));
+            }
+            return partials.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenericAIServiceException(aiProvider, "Análise interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AIServiceException cause) {
+                throw cause;
+            }
+            throw new GenericAIServiceException(aiProvider, "Falha ao analisar seção do currículo: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+    
+    /**
+     * Chama o provedor registrando latência, sucesso e tokens estimados para o roteamento adaptativo.
+     * A resposta de fallback do Gemini conta como falha. Tentativas de hedge que perderam a corrida
+     * não viram amostra: o resultado já foi descartado e só distorceria a janela do provedor.
+     */
+    private String generateAndRecord(AIAnalysisService analysisService, String aiProvider, String resumeContent,
+                                     BooleanSupplier cancelled) {
+        long startTime = System.nanoTime();
+        boolean success = false;
+        boolean rejected = false;
+        String analysis = null;
+        try {
+            analysis = awaitAnalysis(analysisService, aiProvider, resumeContent);
+            success = !ErrorMessages.GEMINI_FALLBACK_MESSAGE.equals(analysis);
+            return analysis;
+        } catch (CallNotPermittedException e) {
+            rejected = true;
+            throw new GenericAIServiceException(aiProvider, "Circuito aberto para " + aiProvider + ", tente novamente mais tarde", e);
+        } catch (BulkheadFullException e) {
+            rejected = true;
+            throw new GenericAIServiceException(aiProvider, "Limite de chamadas simultâneas atingido para " + aiProvider, e);
+        } finally {
+            // Chamadas rejeitadas pelo circuito ou bulkhead não chegaram ao provedor e não viram amostra
+            if (!rejected && !cancelled.getAsBoolean()) {
+                recordSample(aiProvider, startTime, success, resumeContent, analysis);
+            }
+        }
+    }
+    
+    private void recordSample(String aiProvider, long startTime, boolean success, String resumeContent, String analysis) {
+        routingEngine.record(aiProvider, Duration.ofNanos(System.nanoTime() - startTime), success,
+                ResumePreprocessor.estimateTokens(resumeContent) + ResumePreprocessor.estimateTokens(analysis));
+    }
+    
+    private static boolean isRejection(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Usa a API assíncrona do provedor: a espera pela resposta fica com o cliente HTTP, e o time
+     * limiter do provedor encerra a chamada que passar do prazo em vez de prender a thread do
+     * hedge ou do lote indefinidamente.
+     */
+    private static String awaitAnalysis(AIAnalysisService analysisService, String aiProvider, String resumeContent) {
+        CompletableFuture<String> analysis = analysisService.generateResumeAsync(resumeContent);
+        try {
+            return analysis.get();
+        } catch (InterruptedException e) {
+            analysis.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new GenericAIServiceException(aiProvider, "Análise interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof TimeoutException) {
+                throw new GenericAIServiceException(aiProvider, "Tempo limite excedido ao chamar " + aiProvider, cause);
+            }
+            throw new GenericAIServiceException(aiProvider, "Falha ao chamar " + aiProvider + ": " + cause.getMessage(), cause);
+        }
+    }
+    
+    private List<AIAnalysisService> rankServices() {
+        return routingEngine.rank(PROVIDER_PRIORITY).stream()
+                .map(this::getAnalysisService)
+                .toList();
     }
     
     private AIAnalysisService getAnalysisService(String aiProvider) throws AIServiceException {
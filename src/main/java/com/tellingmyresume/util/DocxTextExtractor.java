@@ -0,0 +1,276 @@
+package com.tellingmyresume.util;
+
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Extrai o texto de arquivos DOCX lendo {@code word/document.xml} com StAX direto do zip,
+ * sem montar o modelo de objetos do POI. Parágrafos viram linhas, células de tabela são
+ * separadas por tabulação e cada linha da tabela termina em quebra de linha, como no
+ * {@link XWPFWordExtractor}. Assim como no POI, o texto dos cabeçalhos ({@code word/header*.xml})
+ * vem antes do corpo e o dos rodapés ({@code word/footer*.xml}) depois; o limite de tamanho vale
+ * para a soma das partes lidas.
+ *
+ * <p>Se o XML não puder ser lido dessa forma, o documento é processado pelo POI, por isso os
+ * bytes compactados ficam em memória durante a extração.
+ */
+@Component
+public class DocxTextExtractor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocxTextExtractor.class);
+
+    private static final String DOCUMENT_PART = "word/document.xml";
+    private static final Pattern HEADER_PART = Pattern.compile("word/header\\d*\\.xml");
+    private static final Pattern FOOTER_PART = Pattern.compile("word/footer\\d*\\.xml");
+    private static final String WORDPROCESSING_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String MARKUP_COMPATIBILITY_NS = "http://schemas.openxmlformats.org/markup-compatibility/2006";
+
+    private final long maxDocumentXmlBytes;
+    private final XMLInputFactory xmlInputFactory;
+
+    public DocxTextExtractor(@Value("${extraction.docx.max-document-xml-size:50MB}") DataSize maxDocumentXmlSize) {
+        this.maxDocumentXmlBytes = maxDocumentXmlSize.toBytes();
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public String extract(InputStream content) throws IOException {
+        byte[] docx = content.readAllBytes();
+        try {
+            return extractStreaming(docx);
+        } catch (DocumentTooLargeException e) {
+            throw e;
+        } catch (IOException | XMLStreamException e) {
+            LOGGER.warn("Leitura direta do DOCX falhou, usando o POI: {}", e.getMessage());
+            return extractWithPoi(docx);
+        }
+    }
+
+    String extractStreaming(byte[] docx) throws IOException, XMLStreamException {
+        String body = null;
+        // As partes podem vir em qualquer ordem no zip; a ordenação por nome mantém header1 antes de header2
+        Map<String, String> headers = new TreeMap<>();
+        Map<String, String> footers = new TreeMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(docx))) {
+            BoundedInputStream xml = new BoundedInputStream(zip, maxDocumentXmlBytes);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                if (DOCUMENT_PART.equals(name)) {
+                    body = readPart(xml);
+                } else if (HEADER_PART.matcher(name).matches()) {
+                    headers.put(name, readPart(xml));
+                } else if (FOOTER_PART.matcher(name).matches()) {
+                    footers.put(name, readPart(xml));
+                }
+            }
+        }
+        if (body == null) {
+            throw new IOException("Parte " + DOCUMENT_PART + " não encontrada");
+        }
+        return String.join("", headers.values()) + body + String.join("", footers.values());
+    }
+
+    private String readPart(BoundedInputStream xml) throws IOException, XMLStreamException {
+        try {
+            return readDocumentXml(xml);
+        } catch (XMLStreamException e) {
+            // O parser StAX embrulha a falha de leitura sem preservar a causa
+            if (xml.limitExceeded()) {
+                throw new DocumentTooLargeException(
+                        "Conteúdo do DOCX excede o limite de " + maxDocumentXmlBytes + " bytes");
+            }
+            throw e;
+        }
+    }
+
+    String extractWithPoi(byte[] docx) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(new ByteArrayInputStream(docx));
+             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+            return extractor.getText();
+        } catch (RuntimeException e) {
+            // O POI sinaliza arquivos que não são OOXML com exceções não verificadas
+            throw new IOException("Arquivo DOCX inválido: " + e.getMessage(), e);
+        }
+    }
+
+    private String readDocumentXml(InputStream xml) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(xml);
+        try {
+            return new BodyTextCollector().collect(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Acumula o texto do corpo conforme os eventos StAX. Dentro de uma célula, parágrafos são
+     * unidos por espaço para não quebrar a linha da tabela. O conteúdo de {@code mc:Fallback}
+     * é ignorado porque repete o de {@code mc:Choice} (caixas de texto, formas).
+     */
+    private static final class BodyTextCollector {
+
+        private final StringBuilder text = new StringBuilder();
+        private int cellDepth;
+        private int fallbackDepth;
+        private boolean inText;
+        private boolean cellHasText;
+        private boolean pendingCellParagraph;
+
+        String collect(XMLStreamReader reader) throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    startElement(reader.getNamespaceURI(), reader.getLocalName());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    endElement(reader.getNamespaceURI(), reader.getLocalName());
+                } else if (inText && fallbackDepth == 0
+                        && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                    appendText(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+            }
+            return text.toString();
+        }
+
+        private void startElement(String namespace, String name) {
+            if (MARKUP_COMPATIBILITY_NS.equals(namespace) && "Fallback".equals(name)) {
+                fallbackDepth++;
+                return;
+            }
+            if (fallbackDepth > 0 || !WORDPROCESSING_NS.equals(namespace)) {
+                return;
+            }
+            switch (name) {
+                case "t" -> inText = true;
+                case "tab" -> appendText(new char[] {'\t'}, 0, 1);
+                case "br", "cr" -> appendText(new char[] {cellDepth > 0 ? ' ' : '\n'}, 0, 1);
+                case "tc" -> {
+                    cellDepth++;
+                    cellHasText = false;
+                    pendingCellParagraph = false;
+                }
+                default -> { }
+            }
+        }
+
+        private void endElement(String namespace, String name) {
+            if (MARKUP_COMPATIBILITY_NS.equals(namespace) && "Fallback".equals(name)) {
+                fallbackDepth--;
+                return;
+            }
+            if (fallbackDepth > 0 || !WORDPROCESSING_NS.equals(namespace)) {
+                return;
+            }
+            switch (name) {
+                case "t" -> inText = false;
+                case "p" -> {
+                    if (cellDepth > 0) {
+                        pendingCellParagraph = cellHasText;
+                    } else {
+                        text.append('\n');
+                    }
+                }
+                case "tc" -> {
+                    cellDepth--;
+                    text.append('\t');
+                }
+                case "tr" -> {
+                    if (!text.isEmpty() && text.charAt(text.length() - 1) == '\t') {
+                        text.setLength(text.length() - 1);
+                    }
+                    text.append(cellDepth > 0 ? ' ' : '\n');
+                }
+                default -> { }
+            }
+        }
+
+        private void appendText(char[] chars, int start, int length) {
+            if (cellDepth > 0) {
+                if (pendingCellParagraph) {
+                    text.append(' ');
+                    pendingCellParagraph = false;
+                }
+                cellHasText = true;
+            }
+            text.append(chars, start, length);
+        }
+    }
+
+    /**
+     * Limita o volume descompactado lido do zip, somando todas as partes, para que um arquivo
+     * pequeno não se expanda sem limite na memória.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // O ZipInputStream é fechado por quem o abriu
+        }
+
+        boolean limitExceeded() {
+            return count > limit;
+        }
+
+        private void count(int read) throws DocumentTooLargeException {
+            count += read;
+            if (limitExceeded()) {
+                throw new DocumentTooLargeException("Conteúdo do DOCX excede o limite de " + limit + " bytes");
+            }
+        }
+    }
+
+    private static final class DocumentTooLargeException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        DocumentTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,42 +1,52 @@
 package com.tellingmyresume.util;
 
 import com.tellingmyresume.exception.InvalidResumeException;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
-import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 @Component
 public class FileUtils {
     
+    private final PdfTextExtractor pdfTextExtractor;
+    private final DocxTextExtractor docxTextExtractor;
+    private final TxtTextExtractor txtTextExtractor;
+    
+    public FileUtils(PdfTextExtractor pdfTextExtractor, DocxTextExtractor docxTextExtractor,
+                     TxtTextExtractor txtTextExtractor) {
+        this.pdfTextExtractor = pdfTextExtractor;
+        this.docxTextExtractor = docxTextExtractor;
+        this.txtTextExtractor = txtTextExtractor;
+    }
+    
     public String extractText(String fileName, byte[] content) throws IOException {
+        return extractText(fileName, new ByteArrayInputStream(content));
+    }
+    
+    public String extractText(String fileName, InputStream content) throws IOException {
         String extension = getFileExtension(fileName);
 
         return switch (extension.toLowerCase()) {
-            case "txt" -> new String(content);
+            case "txt" -> txtTextExtractor.extract(content);
             case "pdf" -> extractPdfText(content);
             case "docx" -> extractDocxText(content);
             default -> throw new InvalidResumeException("Formato de arquivo não suportado: " + extension);
         };
     }
     
-    private String extractPdfText(byte[] content) {
-        try (PDDocument document = PDDocument.load(content)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+    private String extractPdfText(InputStream content) {
+        try {
+            return pdfTextExtractor.extract(content);
         } catch (IOException e) {
             throw new InvalidResumeException("Erro ao processar arquivo PDF: " + e.getMessage());
         }
     }
     
-    private String extractDocxText(byte[] content) {
-        try (XWPFDocument doc = new XWPFDocument(new ByteArrayInputStream(content));
-             XWPFWordExtractor extractor = new XWPFWordExtractor(doc)) {
-            return extractor.getText();
+    private String extractDocxText(InputStream content) {
+        try {
+            return docxTextExtractor.extract(content);
         } catch (IOException e) {
             throw new InvalidResumeException("Erro ao processar arquivo DOCX: " + e.getMessage());
         }
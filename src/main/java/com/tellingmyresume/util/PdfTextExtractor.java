@@ -0,0 +1,282 @@
+package com.tellingmyresume.util;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.tellingmyresume.exception.ExtractionOverloadedException;
+import com.tellingmyresume.utils.ExtractionDeadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Extrai o texto de PDFs. Documentos com menos páginas que o limite são processados numa única
+ * thread; os maiores são divididos em faixas de páginas extraídas em paralelo num ForkJoinPool
+ * próprio e concatenadas na ordem original. Como {@link PDDocument} não é thread-safe, cada faixa
+ * abre sua própria instância a partir do mesmo arquivo.
+ *
+ * <p>O uso de memória é limitado: o PDF recebido é copiado para um diretório temporário em vez
+ * de ficar no heap, cada documento aberto tem um orçamento de memória principal e o excedente
+ * vai para um arquivo de rascunho (modo misto do PDFBox), e um semáforo global limita quantos
+ * PDFs são processados ao mesmo tempo.
+ *
+ * <p>A extração é interrompível entre páginas: se a thread que chamou {@link #extract} for
+ * interrompida, as faixas em andamento param antes da próxima página.
+ */
+@Component
+public class PdfTextExtractor {
+
+    private static final String SOURCE_FILE = "document.pdf";
+
+    private final int parallelPageThreshold;
+    private final int pagesPerTask;
+    private final long maxMainMemoryBytes;
+    private final Duration acquireTimeout;
+    private final Path tempDir;
+    private final Semaphore parseSlots;
+    private final ForkJoinPool pool;
+    private final DistributionSummary spilledBytes;
+    private final Counter rejectedParses;
+
+    public PdfTextExtractor(@Value("${extraction.pdf.parallel.page-threshold:16}") int parallelPageThreshold,
+                            @Value("${extraction.pdf.parallel.pages-per-task:8}") int pagesPerTask,
+                            @Value("${extraction.pdf.parallel.parallelism:0}") int parallelism,
+                            @Value("${extraction.pdf.max-main-memory:16MB}") DataSize maxMainMemory,
+                            @Value("${extraction.pdf.max-concurrent-parses:4}") int maxConcurrentParses,
+                            @Value("${extraction.pdf.acquire-timeout:30s}") Duration acquireTimeout,
+                            @Value("${extraction.pdf.temp-dir:${java.io.tmpdir}}") String tempDir,
+                            MeterRegistry meterRegistry) {
+        this.parallelPageThreshold = parallelPageThreshold;
+        this.pagesPerTask = Math.max(1, pagesPerTask);
+        this.maxMainMemoryBytes = maxMainMemory.toBytes();
+        this.acquireTimeout = acquireTimeout;
+        this.tempDir = Paths.get(tempDir);
+        this.parseSlots = new Semaphore(maxConcurrentParses);
+        this.pool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("pdf-extraction-" + thread.getPoolIndex());
+                    return thread;
+                },
+                null, false);
+
+        this.spilledBytes = DistributionSummary.builder("resume.extraction.pdf.spilled")
+                .description("Bytes gravados em arquivo de rascunho por documento PDF aberto")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.rejectedParses = Counter.builder("resume.extraction.pdf.rejected")
+                .description("Extrações de PDF recusadas por excesso de processamentos simultâneos")
+                .register(meterRegistry);
+        Gauge.builder("resume.extraction.pdf.active", parseSlots,
+                        slots -> maxConcurrentParses - slots.availablePermits())
+                .description("Extrações de PDF em andamento")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws ExtractionOverloadedException Se nenhuma vaga de extração liberar dentro do prazo.
+     */
+    public String extract(InputStream content) throws IOException {
+        acquireParseSlot();
+        Path workDir = null;
+        try {
+            workDir = Files.createTempDirectory(Files.createDirectories(tempDir), "pdf-extraction-");
+            Path pdf = workDir.resolve(SOURCE_FILE);
+            Files.copy(content, pdf);
+            return extractFromFile(pdf);
+        } finally {
+            if (workDir != null) {
+                FileSystemUtils.deleteRecursively(workDir);
+            }
+            parseSlots.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private String extractFromFile(Path pdf) throws IOException {
+        int pageCount;
+        PDDocument document = open(pdf, "main");
+        try {
+            pageCount = document.getNumberOfPages();
+            if (pageCount < parallelPageThreshold) {
+                return new CancellableTextStripper(Thread.currentThread()::isInterrupted).getText(document);
+            }
+        } finally {
+            close(document, pdf, "main");
+        }
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ForkJoinTask<String> task = pool.submit(new PageRangeTask(pdf, 1, pageCount, cancelled));
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            // As faixas param na próxima página; até lá elas ainda usam o arquivo e a vaga do semáforo
+            task.quietlyJoin();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Extração de PDF cancelada");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException failure) {
+        for (Throwable cause = failure.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof UncheckedIOException unchecked) {
+                return unchecked.getCause();
+            }
+            if (cause instanceof IOException io) {
+                return io;
+            }
+        }
+        return new IOException("Falha na extração do PDF", failure.getCause());
+    }
+
+    private void acquireParseSlot() throws IOException {
+        // A espera pela vaga não consome o prazo da extração nem conta para a quarentena
+        ExtractionDeadline.pause();
+        try {
+            if (!parseSlots.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedParses.increment();
+                throw new ExtractionOverloadedException("Limite de extrações de PDF simultâneas atingido");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Extração de PDF interrompida", e);
+        } finally {
+            ExtractionDeadline.resume();
+        }
+    }
+
+    /**
+     * Cada documento aberto tem seu próprio diretório de rascunho, para que o volume gravado
+     * em disco possa ser medido por documento antes do fechamento, quando o PDFBox o apaga.
+     */
+    private PDDocument open(Path pdf, String scratchName) throws IOException {
+        Path scratchDir = Files.createDirectories(pdf.resolveSibling("scratch-" + scratchName));
+        MemoryUsageSetting memoryUsage = MemoryUsageSetting.setupMixed(maxMainMemoryBytes)
+                .setTempDir(scratchDir.toFile());
+        return PDDocument.load(pdf.toFile(), memoryUsage);
+    }
+
+    private void close(PDDocument document, Path pdf, String scratchName) throws IOException {
+        try {
+            long spilled = directorySize(pdf.resolveSibling("scratch-" + scratchName));
+            if (spilled > 0) {
+                spilledBytes.record(spilled);
+            }
+        } finally {
+            document.close();
+        }
+    }
+
+    private static long directorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    /**
+     * Divide a faixa ao meio até ela caber em {@code pagesPerTask}; a junção preserva a ordem das páginas.
+     */
+    private final class PageRangeTask extends RecursiveTask<String> {
+
+        private final Path pdf;
+        private final int startPage;
+        private final int endPage;
+        private final AtomicBoolean cancelled;
+
+        PageRangeTask(Path pdf, int startPage, int endPage, AtomicBoolean cancelled) {
+            this.pdf = pdf;
+            this.startPage = startPage;
+            this.endPage = endPage;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected String compute() {
+            if (endPage - startPage + 1 <= pagesPerTask) {
+                return extractRange();
+            }
+            int middle = (startPage + endPage) >>> 1;
+            PageRangeTask first = new PageRangeTask(pdf, startPage, middle, cancelled);
+            PageRangeTask second = new PageRangeTask(pdf, middle + 1, endPage, cancelled);
+            second.fork();
+            String firstText = first.compute();
+            return firstText + second.join();
+        }
+
+        private String extractRange() {
+            String scratchName = startPage + "-" + endPage;
+            try {
+                PDDocument document = open(pdf, scratchName);
+                try {
+                    PDFTextStripper stripper = new CancellableTextStripper(cancelled::get);
+                    stripper.setStartPage(startPage);
+                    stripper.setEndPage(endPage);
+                    return stripper.getText(document);
+                } finally {
+                    close(document, pdf, scratchName);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Verifica o cancelamento antes de cada página; uma única página patológica ainda roda até o fim.
+     * Cada página termina com uma quebra de página ({@code \f}), usada pelo pré-processamento para
+     * reconhecer cabeçalhos e rodapés.
+     */
+    private static final class CancellableTextStripper extends PDFTextStripper {
+
+        private final BooleanSupplier cancelled;
+
+        CancellableTextStripper(BooleanSupplier cancelled) throws IOException {
+            this.cancelled = cancelled;
+            setPageEnd("\f" + getLineSeparator());
+        }
+
+        @Override
+        public void processPage(PDPage page) throws IOException {
+            if (cancelled.getAsBoolean()) {
+                throw new InterruptedIOException("Extração de PDF cancelada");
+            }
+            super.processPage(page);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.tellingmyresume.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodifica currículos em texto puro detectando a codificação, em vez de usar o charset padrão
+ * da plataforma. A ordem de detecção é: BOM (UTF-8, UTF-16LE, UTF-16BE), padrão de bytes nulos
+ * típico de UTF-16 sem BOM, validação estrita de UTF-8 e, por fim, windows-1252 — a codificação
+ * comum de arquivos gerados no Windows em português — ou ISO-8859-1 quando há bytes que não
+ * existem no windows-1252.
+ *
+ * <p>A detecção olha apenas uma amostra do início do arquivo; o restante é decodificado em
+ * fluxo, sem cópia intermediária do conteúdo em bytes.
+ */
+@Component
+public class TxtTextExtractor {
+
+    private static final Charset WINDOWS_1252 = Charset.forName("windows-1252");
+
+    /** Proporção mínima de bytes nulos numa mesma paridade para considerar UTF-16 sem BOM. */
+    private static final double UTF16_NUL_RATIO = 0.3;
+
+    private static final int READ_BUFFER_CHARS = 8192;
+
+    public record DetectedCharset(Charset charset, int bomLength) {
+    }
+
+    private final int sampleSize;
+
+    public TxtTextExtractor(@Value("${extraction.txt.detection-sample-size:64KB}") DataSize sampleSize) {
+        this.sampleSize = (int) Math.max(4, sampleSize.toBytes());
+    }
+
+    public String extract(InputStream content) throws IOException {
+        try (Reader reader = openReader(content)) {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[READ_BUFFER_CHARS];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Abre um {@link Reader} já posicionado após o BOM e com a codificação detectada. Sequências
+     * inválidas após a amostra são substituídas por U+FFFD.
+     */
+    public Reader openReader(InputStream content) throws IOException {
+        BufferedInputStream input = new BufferedInputStream(content, sampleSize);
+        input.mark(sampleSize);
+        byte[] sample = input.readNBytes(sampleSize);
+        input.reset();
+
+        DetectedCharset detected = detect(sample, sample.length < sampleSize);
+        input.skipNBytes(detected.bomLength());
+        CharsetDecoder decoder = detected.charset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return new InputStreamReader(input, decoder);
+    }
+
+    /**
+     * @param sample O início do arquivo.
+     * @param wholeContent Se a amostra contém o arquivo inteiro; senão, uma sequência UTF-8
+     *                     cortada no fim da amostra não é considerada inválida.
+     */
+    static DetectedCharset detect(byte[] sample, boolean wholeContent) {
+        int length = sample.length;
+        if (length >= 3 && (sample[0] & 0xFF) == 0xEF && (sample[1] & 0xFF) == 0xBB && (sample[2] & 0xFF) == 0xBF) {
+            return new DetectedCharset(StandardCharsets.UTF_8, 3);
+        }
+        if (length >= 2 && (sample[0] & 0xFF) == 0xFF && (sample[1] & 0xFF) == 0xFE) {
+            return new DetectedCharset(StandardCharsets.UTF_16LE, 2);
+        }
+        if (length >= 2 && (sample[0] & 0xFF) == 0xFE && (sample[1] & 0xFF) == 0xFF) {
+            return new DetectedCharset(StandardCharsets.UTF_16BE, 2);
+        }
+
+        Charset utf16 = detectUtf16WithoutBom(sample, length);
+        if (utf16 != null) {
+            return new DetectedCharset(utf16, 0);
+        }
+        if (isValidUtf8(sample, wholeContent)) {
+            return new DetectedCharset(StandardCharsets.UTF_8, 0);
+        }
+        return new DetectedCharset(hasBytesUndefinedInWindows1252(sample, length)
+                ? StandardCharsets.ISO_8859_1 : WINDOWS_1252, 0);
+    }
+
+    /**
+     * Texto latino em UTF-16 tem um byte nulo em quase todo par: na posição ímpar em LE e na par em BE.
+     */
+    private static Charset detectUtf16WithoutBom(byte[] sample, int length) {
+        int pairs = length / 2;
+        if (pairs == 0) {
+            return null;
+        }
+        int evenNuls = 0;
+        int oddNuls = 0;
+        for (int i = 0; i + 1 < length; i += 2) {
+            if (sample[i] == 0) {
+                evenNuls++;
+            }
+            if (sample[i + 1] == 0) {
+                oddNuls++;
+            }
+        }
+        if (oddNuls >= pairs * UTF16_NUL_RATIO && evenNuls < pairs * 0.05) {
+            return StandardCharsets.UTF_16LE;
+        }
+        if (evenNuls >= pairs * UTF16_NUL_RATIO && oddNuls < pairs * 0.05) {
+            return StandardCharsets.UTF_16BE;
+        }
+        return null;
+    }
+
+    private static boolean isValidUtf8(byte[] sample, boolean wholeContent) {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer bytes = ByteBuffer.wrap(sample);
+        CharBuffer chars = CharBuffer.allocate(READ_BUFFER_CHARS);
+        while (true) {
+            CoderResult result = decoder.decode(bytes, chars, wholeContent);
+            if (result.isError()) {
+                return false;
+            }
+            if (result.isUnderflow()) {
+                return true;
+            }
+            chars.clear();
+        }
+    }
+
+    private static boolean hasBytesUndefinedInWindows1252(byte[] sample, int length) {
+        for (int i = 0; i < length; i++) {
+            int b = sample[i] & 0xFF;
+            if (b == 0x81 || b == 0x8D || b == 0x8F || b == 0x90 || b == 0x9D) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,10 @@
 package com.tellingmyresume.utils;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import org.slf4j.MDC;
 
 public final class CorrelationIdUtils {
     
@@ -35,4 +39,36 @@ public final class CorrelationIdUtils {
     public static void clearCorrelationId() {
         CORRELATION_ID.remove();
     }
+    
+    /**
+     * Captura o correlation id e o MDC da thread atual para restaurá-los na thread
+     * que executar a tarefa. Ao final, a thread volta ao contexto que tinha antes, o que
+     * preserva o contexto de quem chama quando a tarefa roda inline (fila cheia, por exemplo).
+     */
+    public static <T> Callable<T> withCurrentContext(Callable<T> task) {
+        String correlationId = getCorrelationId();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            String originalCorrelationId = getCorrelationId();
+            Map<String, String> originalMdc = MDC.getCopyOfContextMap();
+            apply(correlationId, mdc);
+            try {
+                return task.call();
+            } finally {
+                apply(originalCorrelationId, originalMdc);
+            }
+        };
+    }
+    
+    private static void apply(String correlationId, Map<String, String> mdc) {
+        if (correlationId != null) {
+            setCorrelationId(correlationId);
+        } else {
+            clearCorrelationId();
+        }
+        MDC.clear();
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+    }
 }
\ No newline at end of file
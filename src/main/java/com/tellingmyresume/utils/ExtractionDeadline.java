@@ -0,0 +1,57 @@
+package com.tellingmyresume.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Marca quando uma extração de texto está de fato trabalhando, para que o prazo conte só esse
+ * tempo. Enquanto a tarefa está na fila ou aguardando um recurso limitado (como a vaga de
+ * processamento de PDF), o relógio fica parado; ao retomar, o prazo recomeça inteiro.
+ *
+ * <p>Fora de uma extração rastreada, {@link #pause()} e {@link #resume()} não fazem nada.
+ */
+public final class ExtractionDeadline {
+
+    /** A tarefa ainda não começou a executar. */
+    public static final long QUEUED = Long.MIN_VALUE;
+
+    /** A tarefa está executando, mas aguardando um recurso. */
+    public static final long PAUSED = Long.MIN_VALUE + 1;
+
+    private static final ThreadLocal<AtomicLong> CURRENT_START = new ThreadLocal<>();
+
+    private ExtractionDeadline() {
+        // Utility class
+    }
+
+    /**
+     * Publica em {@code startedAt} o instante ({@link System#nanoTime()}) em que a tarefa começou
+     * ou retomou o trabalho, ou {@link #QUEUED}/{@link #PAUSED}.
+     */
+    public static <T> Callable<T> track(AtomicLong startedAt, Callable<T> task) {
+        startedAt.set(QUEUED);
+        return () -> {
+            CURRENT_START.set(startedAt);
+            startedAt.set(System.nanoTime());
+            try {
+                return task.call();
+            } finally {
+                CURRENT_START.remove();
+            }
+        };
+    }
+
+    public static void pause() {
+        AtomicLong startedAt = CURRENT_START.get();
+        if (startedAt != null) {
+            startedAt.set(PAUSED);
+        }
+    }
+
+    public static void resume() {
+        AtomicLong startedAt = CURRENT_START.get();
+        if (startedAt != null) {
+            startedAt.set(System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.tellingmyresume.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class HashUtils {
+
+    private static final String SHA_256 = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+
+    private HashUtils() {
+        // Utility class
+    }
+
+    public static String sha256Hex(String content) {
+        return sha256Hex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256Hex(byte[] content) {
+        MessageDigest digest = newSha256Digest();
+        return HexFormat.of().formatHex(digest.digest(content));
+    }
+
+    /**
+     * Calcula o SHA-256 consumindo o stream com um buffer fixo, sem carregá-lo inteiro em memória.
+     */
+    public static String sha256Hex(InputStream content) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível", e);
+        }
+    }
+}
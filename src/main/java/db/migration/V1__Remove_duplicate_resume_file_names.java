@@ -0,0 +1,51 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Remove currículos com nome repetido, mantendo o mais recente de cada nome, para que o
+ * {@code ddl-auto} consiga criar o índice único {@code ux_resume_file_name} em bancos antigos.
+ * Em um banco novo as tabelas ainda não existem e nada é feito.
+ */
+public class V1__Remove_duplicate_resume_file_names extends BaseJavaMigration {
+
+    private static final String SUPERSEDED_IDS = "select r.id from resume r where exists "
+            + "(select 1 from resume newer where newer.file_name = r.file_name and newer.id > r.id)";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection, "resume")) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            // Tabelas filhas primeiro, pela chave estrangeira para resume
+            for (String child : new String[] {"resume_content", "resume_text"}) {
+                if (tableExists(connection, child)) {
+                    statement.executeUpdate("delete from " + child + " where resume_id in (" + SUPERSEDED_IDS + ")");
+                }
+            }
+            statement.executeUpdate("delete from resume where id in (select id from (" + SUPERSEDED_IDS + ") superseded)");
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[] {table, table.toUpperCase()}) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[] {"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
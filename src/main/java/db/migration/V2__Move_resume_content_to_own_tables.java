@@ -0,0 +1,73 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Copia o documento ({@code resume.content}) e o texto extraído ({@code resume.extracted_text}) de
+ * bancos antigos para {@code resume_content} e {@code resume_text}, e remove as colunas antigas.
+ * Como as migrações rodam antes do {@code ddl-auto}, as tabelas novas são criadas aqui quando
+ * ainda não existem. Em um banco novo, ou já migrado, nada é feito.
+ */
+public class V2__Move_resume_content_to_own_tables extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection, "resume")) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            if (columnExists(connection, "resume", "content")) {
+                statement.executeUpdate("create table if not exists resume_content ("
+                        + "resume_id bigint not null primary key, data blob, "
+                        + "foreign key (resume_id) references resume (id))");
+                statement.executeUpdate("insert into resume_content (resume_id, data) "
+                        + "select r.id, r.content from resume r where r.content is not null "
+                        + "and not exists (select 1 from resume_content c where c.resume_id = r.id)");
+                statement.executeUpdate("alter table resume drop column content");
+            }
+
+            if (columnExists(connection, "resume", "extracted_text")) {
+                statement.executeUpdate("create table if not exists resume_text ("
+                        + "resume_id bigint not null primary key, text clob, "
+                        + "foreign key (resume_id) references resume (id))");
+                statement.executeUpdate("insert into resume_text (resume_id, text) "
+                        + "select r.id, r.extracted_text from resume r where r.extracted_text is not null "
+                        + "and not exists (select 1 from resume_text t where t.resume_id = r.id)");
+                statement.executeUpdate("alter table resume drop column extracted_text");
+            }
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[] {table, table.toUpperCase()}) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[] {"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean columnExists(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String[] names : new String[][] {{table, column}, {table.toUpperCase(), column.toUpperCase()}}) {
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, names[0], names[1])) {
+                if (columns.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
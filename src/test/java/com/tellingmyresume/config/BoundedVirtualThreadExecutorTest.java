@@ -0,0 +1,71 @@
+package com.tellingmyresume.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedVirtualThreadExecutorTest {
+
+    @Test
+    void testExecute_RejectsInsteadOfBlockingAtLimit() throws Exception {
+        // Arrange
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        try {
+            // Act & Assert
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testExecute_FailedTaskFreesItsSlot() throws Exception {
+        // Arrange
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1);
+        CountDownLatch next = new CountDownLatch(1);
+        executor.execute(() -> {
+            throw new IllegalStateException("falha na tarefa");
+        });
+
+        // Act
+        boolean accepted = executeWhenFree(executor, next::countDown);
+
+        // Assert
+        assertTrue(accepted);
+        assertTrue(next.await(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean executeWhenFree(BoundedVirtualThreadExecutor executor, Runnable task) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            try {
+                executor.execute(task);
+                return true;
+            } catch (RejectedExecutionException e) {
+                Thread.sleep(10);
+            }
+        }
+        return false;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
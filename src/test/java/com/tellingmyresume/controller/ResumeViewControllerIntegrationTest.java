@@ -0,0 +1,112 @@
+package com.tellingmyresume.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import com.tellingmyresume.constants.ErrorMessages;
+import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
+import com.tellingmyresume.service.ResumeAnalysisService;
+import com.tellingmyresume.service.ResumeViewCacheService;
+import com.tellingmyresume.service.ResumeViewCacheService.RenderResult;
+import com.tellingmyresume.service.ResumeViewCacheService.RenderedView;
+import com.tellingmyresume.service.ResumeViewCacheService.ViewCacheKey;
+
+@WebMvcTest(ResumeViewController.class)
+class ResumeViewControllerIntegrationTest {
+
+    private static final String ETAG = "\"0123456789abcdef0123456789abcdef\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @MockBean
+    private ResumeViewCacheService viewCache;
+
+    @MockBean
+    private ITemplateEngine templateEngine;
+
+    @Test
+    void testViewResume_ReturnsValidatorsAndVariesByLanguage() throws Exception {
+        // Arrange
+        stubCachedView();
+
+        // Act & Assert
+        mockMvc.perform(get("/resume/view/{fileName}", "test-resume.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE))
+                .andExpect(content().string("<p>AI analysis</p>"));
+        verify(resumeAnalysisService, never()).getResumeContent(anyString());
+    }
+
+    @Test
+    void testViewResume_MatchingIfNoneMatchReturnsNotModified() throws Exception {
+        // Arrange
+        stubCachedView();
+
+        // Act & Assert
+        mockMvc.perform(get("/resume/view/{fileName}", "test-resume.pdf")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testViewResume_FallbackPageIsNotCacheable() throws Exception {
+        // Arrange
+        ViewCacheKey key = new ViewCacheKey("checksum", "auto", "en", "v1");
+        AtomicReference<RenderResult> rendered = new AtomicReference<>();
+        when(resumeAnalysisService.getResumeChecksum("test-resume.pdf")).thenReturn("checksum");
+        when(resumeAnalysisService.analyzeResumeWithBestAvailable("test-resume.pdf"))
+                .thenReturn(ResumeAnalysisResponse.error("test-resume.pdf", ErrorMessages.GEMINI_FALLBACK_MESSAGE, "Gemini"));
+        when(viewCache.keyFor(anyString(), any(), any(Locale.class))).thenReturn(key);
+        when(templateEngine.process(eq("resumeView"), any(IContext.class))).thenReturn("<p>fallback</p>");
+        when(viewCache.getOrRender(any(ViewCacheKey.class), any())).thenAnswer(invocation -> {
+            Supplier<RenderResult> renderer = invocation.getArgument(1);
+            RenderResult result = renderer.get();
+            rendered.set(result);
+            return new RenderedView(result.html(), ETAG, Instant.parse("2024-01-01T00:00:00Z"));
+        });
+
+        // Act & Assert
+        mockMvc.perform(get("/resume/view/{fileName}", "test-resume.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("<p>fallback</p>"));
+        assertFalse(rendered.get().cacheable());
+    }
+
+    private void stubCachedView() {
+        ViewCacheKey key = new ViewCacheKey("checksum", "auto", "en", "v1");
+        when(resumeAnalysisService.getResumeChecksum("test-resume.pdf")).thenReturn("checksum");
+        when(viewCache.keyFor(anyString(), any(), any(Locale.class))).thenReturn(key);
+        when(viewCache.getOrRender(any(ViewCacheKey.class), any()))
+                .thenReturn(new RenderedView("<p>AI analysis</p>", ETAG, Instant.parse("2024-01-01T00:00:00Z")));
+    }
+}
@@ -0,0 +1,61 @@
+package com.tellingmyresume.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+class ResumeFormatterTest {
+
+    @Test
+    void testFormatResume_RendersBlocksWithBalancedTags() {
+        // Arrange
+        String analysis = "## Pontos Fortes\n\n"
+                + "**Destaque:** sólida experiência em *Java*\n"
+                + "e Spring Boot\n\n"
+                + "* Microsserviços\n"
+                + "* Kafka e `Docker`\n\n"
+                + "1. AWS\n"
+                + "2. Kubernetes";
+
+        // Act
+        String html = ResumeFormatter.formatResume(analysis);
+
+        // Assert
+        assertEquals("<h2>Pontos Fortes</h2>"
+                + "<p><strong>Destaque:</strong> sólida experiência em <em>Java</em><br>e Spring Boot</p>"
+                + "<ul><li>Microsserviços</li><li>Kafka e <code>Docker</code></li></ul>"
+                + "<ol><li>AWS</li><li>Kubernetes</li></ol>", html);
+    }
+
+    @Test
+    void testFormatResume_EscapesHtmlAndKeepsUnmatchedMarkers() {
+        // Act
+        String html = ResumeFormatter.formatResume("<script>alert('x')</script> & **sem fechamento snake_case 2 * 3");
+
+        // Assert
+        assertEquals("<p>&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; **sem fechamento snake_case 2 * 3</p>", html);
+    }
+
+    @Test
+    void testRenderMarkdown_WritesToWriter() throws Exception {
+        // Arrange
+        StringWriter writer = new StringWriter();
+
+        // Act
+        ResumeFormatter.renderMarkdown("# Resumo\r\n---\r\nTexto", writer);
+
+        // Assert
+        assertEquals("<h1>Resumo</h1><hr><p>Texto</p>", writer.toString());
+    }
+
+    @Test
+    void testCleanSpecialCharacters_CollapsesLineBreaksAndDropsNonAscii() {
+        // Act
+        String cleaned = ResumeFormatter.cleanSpecialCharacters("Java\r\n\nSênior\nAWS");
+
+        // Assert
+        assertEquals("Java Snior AWS", cleaned);
+    }
+}
@@ -5,8 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -17,8 +22,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.tellingmyresume.dto.response.ProviderStatusResponse;
+import com.tellingmyresume.exception.ClaudeServiceException;
 import com.tellingmyresume.service.impl.AIProviderServiceImpl;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class AIProviderServiceTest {
 
@@ -28,11 +37,22 @@ class AIProviderServiceTest {
     @Mock
     private AIAnalysisService geminiService;
 
+    private ProviderRoutingEngine routingEngine;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private ProviderHealthMonitor healthMonitor;
+
     private AIProviderService aiProviderService;
 
     @BeforeEach
     void setUp() {
-        aiProviderService = new AIProviderServiceImpl(claudeService, geminiService);
+        routingEngine = new ProviderRoutingEngine(100, 5, Duration.ofMinutes(10), 0.0, 1.0, 2.0, 0.5, 0.003, 0.00035);
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        healthMonitor = new ProviderHealthMonitor(claudeService, geminiService, true,
+                Duration.ofSeconds(5), Duration.ofMinutes(2));
+        aiProviderService = new AIProviderServiceImpl(claudeService, geminiService, routingEngine,
+                circuitBreakerRegistry, BulkheadRegistry.ofDefaults(), healthMonitor);
     }
 
     @Test
@@ -150,6 +170,44 @@ class AIProviderServiceTest {
         assertTrue(systemStatus.isHasAvailableProvider());
     }
 
+    @Test
+    void testGetSystemStatus_ReportsOpenCircuitBreaker() {
+        // Arrange
+        when(claudeService.isServiceAvailable()).thenReturn(false);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        circuitBreakerRegistry.circuitBreaker(ClaudeService.RESILIENCE_INSTANCE).transitionToOpenState();
+
+        // Act
+        ProviderStatusResponse systemStatus = aiProviderService.getSystemStatus();
+
+        // Assert
+        assertEquals("OPEN", systemStatus.getCircuitBreakerStates().get("Claude"));
+        assertEquals("CLOSED", systemStatus.getCircuitBreakerStates().get("Gemini"));
+        assertEquals(25, systemStatus.getBulkheadAvailableCalls().get("Claude"));
+        assertEquals("Gemini", systemStatus.getPreferredProvider());
+    }
+
+    @Test
+    void testGetSystemStatus_ServedFromFailedProbe() {
+        // Arrange
+        doThrow(new ClaudeServiceException("Serviço Claude respondeu HTTP 503"))
+            .when(claudeService).probe(any(Duration.class));
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        healthMonitor.probeProviders();
+
+        // Act
+        ProviderStatusResponse systemStatus = aiProviderService.getSystemStatus();
+
+        // Assert
+        assertFalse(systemStatus.getProviderStatus().get("Claude"));
+        assertEquals(List.of("Gemini"), systemStatus.getAvailableProviders());
+        assertFalse(systemStatus.getProviderHealth().get("Claude").isAvailable());
+        assertEquals("Serviço Claude respondeu HTTP 503", systemStatus.getProviderHealth().get("Claude").getLastError());
+        assertTrue(systemStatus.getProviderHealth().get("Gemini").isAvailable());
+        assertNotNull(systemStatus.getProviderHealth().get("Gemini").getCheckedAt());
+        verify(claudeService, never()).isServiceAvailable();
+    }
+
     @Test
     void testGetSystemStatus_NoProvidersAvailable() {
         // Arrange
@@ -196,6 +254,22 @@ class AIProviderServiceTest {
         assertEquals("Gemini", preferredProvider);
     }
 
+    @Test
+    void testGetPreferredProvider_RoutesAwayFromDegradedProvider() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            routingEngine.record("Claude", Duration.ofSeconds(8), i % 2 == 0, 1000);
+            routingEngine.record("Gemini", Duration.ofSeconds(2), true, 1000);
+        }
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+
+        // Act
+        String preferredProvider = aiProviderService.getPreferredProvider();
+
+        // Assert
+        assertEquals("Gemini", preferredProvider);
+    }
+
     @Test
     void testGetPreferredProvider_NoneAvailable() {
         // Arrange
@@ -0,0 +1,163 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tellingmyresume.exception.GenericAIServiceException;
+import com.tellingmyresume.service.AnalysisCacheService.AnalysisCacheKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AnalysisCacheServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AnalysisCacheService analysisCache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        analysisCache = new AnalysisCacheService(100, Duration.ofMinutes(10), "v1", Duration.ofSeconds(5), meterRegistry);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGetOrLoad_ConcurrentRequestsShareSingleCall() throws Exception {
+        // Arrange
+        AnalysisCacheKey key = analysisCache.keyFor("test-resume.pdf", "Resume content", "Claude");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Future<String> leader = executor.submit(() -> analysisCache.getOrLoad(key, () -> {
+            calls.incrementAndGet();
+            awaitQuietly(release);
+            return "AI analysis";
+        }, result -> true));
+        while (calls.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Future<String> follower = executor.submit(() -> analysisCache.getOrLoad(key, () -> {
+            calls.incrementAndGet();
+            return "Duplicated analysis";
+        }, result -> true));
+        while (meterRegistry.counter("resume.analysis.coalesced").count() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals("AI analysis", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("AI analysis", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1, analysisCache.size());
+    }
+
+    @Test
+    void testGetOrLoad_FailureIsNotCached() {
+        // Arrange
+        AnalysisCacheKey key = analysisCache.keyFor("test-resume.pdf", "Resume content", "Gemini");
+
+        // Act & Assert
+        assertThrows(GenericAIServiceException.class, () -> analysisCache.getOrLoad(key, () -> {
+            throw new GenericAIServiceException("Gemini", "Serviço Gemini não está disponível");
+        }, result -> true));
+        assertEquals("AI analysis", analysisCache.getOrLoad(key, () -> "AI analysis", result -> true));
+    }
+
+    @Test
+    void testGetOrLoad_ErrorInLoaderReleasesFollowers() throws Exception {
+        // Arrange
+        AnalysisCacheKey key = analysisCache.keyFor("test-resume.pdf", "Resume content", "Claude");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Future<String> leader = executor.submit(() -> analysisCache.getOrLoad(key, () -> {
+            calls.incrementAndGet();
+            awaitQuietly(release);
+            throw new StackOverflowError();
+        }, result -> true));
+        while (calls.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Future<String> follower = executor.submit(() -> analysisCache.getOrLoad(key, () -> "Duplicated analysis",
+            result -> true));
+        while (meterRegistry.counter("resume.analysis.coalesced").count() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(GenericAIServiceException.class, followerFailure.getCause());
+    }
+
+    @Test
+    void testGetOrLoad_FollowerGivesUpAfterTimeout() throws Exception {
+        // Arrange
+        AnalysisCacheService impatientCache = new AnalysisCacheService(100, Duration.ofMinutes(10), "v1",
+            Duration.ofMillis(50), new SimpleMeterRegistry());
+        AnalysisCacheKey key = impatientCache.keyFor("test-resume.pdf", "Resume content", "Claude");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Future<String> leader = executor.submit(() -> impatientCache.getOrLoad(key, () -> {
+            calls.incrementAndGet();
+            awaitQuietly(release);
+            return "AI analysis";
+        }, result -> true));
+        while (calls.get() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        assertThrows(GenericAIServiceException.class,
+            () -> impatientCache.getOrLoad(key, () -> "Duplicated analysis", result -> true));
+        release.countDown();
+        assertEquals("AI analysis", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testInvalidate_RemovesAnalysesForFileContent() {
+        // Arrange
+        AnalysisCacheKey key = analysisCache.keyFor("test-resume.pdf", "Resume content", "Claude");
+        analysisCache.put(key, "AI analysis");
+
+        // Act
+        analysisCache.invalidate("test-resume.pdf");
+
+        // Assert
+        assertTrue(analysisCache.get(key).isEmpty());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.client.RestTemplate;
+
+import com.tellingmyresume.dto.response.AnalysisJobResponse;
+import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
+import com.tellingmyresume.exception.GenericAIServiceException;
+import com.tellingmyresume.exception.InvalidCallbackUrlException;
+import com.tellingmyresume.model.AnalysisJob;
+import com.tellingmyresume.model.AnalysisJobStatus;
+import com.tellingmyresume.repository.AnalysisJobRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AnalysisJobWorkerTest {
+
+    @Mock
+    private AnalysisJobRepository jobRepository;
+
+    @Mock
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private CallbackUrlPolicy callbackUrlPolicy;
+
+    private AnalysisJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new AnalysisJobWorker(jobRepository, resumeAnalysisService, restTemplate, callbackUrlPolicy,
+            Runnable::run, 2, 3, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void testPollPendingJobs_CompletesClaimedJobAndNotifiesCallback() {
+        // Arrange
+        AnalysisJob job = new AnalysisJob("test-resume.pdf", null, "https://example.com/hook");
+        when(jobRepository.findIdsByStatus(eq(AnalysisJobStatus.PENDING), any(Pageable.class)))
+            .thenReturn(List.of(job.getId()));
+        when(jobRepository.claim(eq(job.getId()), any())).thenReturn(1);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(resumeAnalysisService.analyzeResumeWithBestAvailable("test-resume.pdf"))
+            .thenReturn(ResumeAnalysisResponse.success("test-resume.pdf", "AI analysis", "Claude"));
+        when(callbackUrlPolicy.validate("https://example.com/hook")).thenReturn(URI.create("https://example.com/hook"));
+
+        // Act
+        worker.pollPendingJobs();
+
+        // Assert
+        assertEquals(AnalysisJobStatus.COMPLETED, job.getStatus());
+        assertEquals("AI analysis", job.getResult());
+        assertEquals("Claude", job.getResultProvider());
+        verify(jobRepository).save(job);
+        verify(restTemplate).postForEntity(eq(URI.create("https://example.com/hook")), any(AnalysisJobResponse.class), eq(Void.class));
+    }
+
+    @Test
+    void testPollPendingJobs_SkipsJobClaimedByAnotherWorker() {
+        // Arrange
+        when(jobRepository.findIdsByStatus(eq(AnalysisJobStatus.PENDING), any(Pageable.class)))
+            .thenReturn(List.of("job-1"));
+        when(jobRepository.claim(eq("job-1"), any())).thenReturn(0);
+
+        // Act
+        worker.pollPendingJobs();
+
+        // Assert
+        verify(jobRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void testProcess_MarksJobAsFailedWhenAnalysisThrows() {
+        // Arrange
+        AnalysisJob job = new AnalysisJob("test-resume.pdf", "Gemini", null);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(resumeAnalysisService.analyzeResumeWithProvider("test-resume.pdf", "Gemini"))
+            .thenThrow(new GenericAIServiceException("Gemini", "Serviço Gemini não está disponível"));
+
+        // Act
+        worker.process(job.getId());
+
+        // Assert
+        assertEquals(AnalysisJobStatus.FAILED, job.getStatus());
+        assertEquals("Serviço Gemini não está disponível", job.getErrorMessage());
+        verify(restTemplate, never()).postForEntity(any(URI.class), any(), eq(Void.class));
+    }
+
+    @Test
+    void testProcess_DoesNotNotifyCallbackRejectedAtSendTime() {
+        // Arrange
+        AnalysisJob job = new AnalysisJob("test-resume.pdf", "Claude", "https://hooks.example.com/rebind");
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(resumeAnalysisService.analyzeResumeWithProvider("test-resume.pdf", "Claude"))
+            .thenReturn(ResumeAnalysisResponse.success("test-resume.pdf", "AI analysis", "Claude"));
+        when(callbackUrlPolicy.validate("https://hooks.example.com/rebind"))
+            .thenThrow(new InvalidCallbackUrlException("Host de callback resolve para endereço não público: hooks.example.com"));
+
+        // Act
+        worker.process(job.getId());
+
+        // Assert
+        assertEquals(AnalysisJobStatus.COMPLETED, job.getStatus());
+        verify(restTemplate, never()).postForEntity(any(URI.class), any(), eq(Void.class));
+    }
+
+    @Test
+    void testProcess_LongErrorMessageIsTruncated() {
+        // Arrange
+        AnalysisJob job = new AnalysisJob("test-resume.pdf", "Gemini", null);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(resumeAnalysisService.analyzeResumeWithProvider("test-resume.pdf", "Gemini"))
+            .thenThrow(new GenericAIServiceException("Gemini", "x".repeat(AnalysisJob.ERROR_MESSAGE_MAX_LENGTH + 500)));
+
+        // Act
+        worker.process(job.getId());
+
+        // Assert
+        assertEquals(AnalysisJob.ERROR_MESSAGE_MAX_LENGTH, job.getErrorMessage().length());
+    }
+
+    @Test
+    void testProcess_JobLeavesRunningWhenResultCannotBeSaved() {
+        // Arrange
+        AnalysisJob job = new AnalysisJob("test-resume.pdf", "Claude", "https://example.com/hook");
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(resumeAnalysisService.analyzeResumeWithProvider("test-resume.pdf", "Claude"))
+            .thenReturn(ResumeAnalysisResponse.success("test-resume.pdf", "AI analysis", "Claude"));
+        when(jobRepository.save(job)).thenThrow(new DataIntegrityViolationException("value too long"));
+        when(callbackUrlPolicy.validate("https://example.com/hook")).thenReturn(URI.create("https://example.com/hook"));
+
+        // Act
+        worker.process(job.getId());
+
+        // Assert
+        verify(jobRepository).markFailed(eq(job.getId()), startsWith("Falha ao gravar o resultado"), any(LocalDateTime.class));
+        assertEquals(AnalysisJobStatus.FAILED, job.getStatus());
+        verify(restTemplate).postForEntity(eq(URI.create("https://example.com/hook")), any(AnalysisJobResponse.class), eq(Void.class));
+    }
+
+    @Test
+    void testRecoverExpiredJobs_OnlyTouchesJobsPastTheLease() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.now().minusMinutes(15);
+
+        // Act
+        worker.recoverExpiredJobs();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).requeueExpired(cutoff.capture(), eq(3));
+        verify(jobRepository).failExpired(eq(cutoff.getValue()), eq(3), anyString(), any(LocalDateTime.class));
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusMinutes(14)));
+    }
+}
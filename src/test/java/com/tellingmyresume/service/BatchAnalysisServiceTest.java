@@ -0,0 +1,227 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.tellingmyresume.dto.request.BatchAnalysisRequest;
+import com.tellingmyresume.dto.response.BatchAnalysisResponse;
+import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
+import com.tellingmyresume.exception.AIServiceException;
+import com.tellingmyresume.exception.BatchTooLargeException;
+import com.tellingmyresume.exception.ResumeNotFoundException;
+import com.tellingmyresume.service.impl.BatchAnalysisServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BatchAnalysisServiceTest {
+
+    @Mock
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Mock
+    private ResumeDataService resumeService;
+
+    @Mock
+    private AIAnalysisService claudeService;
+
+    @Mock
+    private AIAnalysisService geminiService;
+
+    private BatchAnalysisService batchAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(geminiService.getProviderName()).thenReturn("Gemini");
+        batchAnalysisService = new BatchAnalysisServiceImpl(resumeAnalysisService, resumeService,
+            claudeService, geminiService, new ProviderConcurrencyLimiter(2, 2), Runnable::run);
+    }
+
+    @Test
+    void testAnalyzeBatch_ReturnsResultPerItemInRequestOrder() throws Exception {
+        // Arrange
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(resumeAnalysisService.analyzeResumeWithProvider("a.pdf", "Claude"))
+            .thenReturn(ResumeAnalysisResponse.success("a.pdf", "Analysis A", "Claude"));
+        when(resumeAnalysisService.analyzeResumeWithProvider("b.pdf", "Claude"))
+            .thenReturn(ResumeAnalysisResponse.error("b.pdf", "Falha", "Claude"));
+        when(resumeAnalysisService.analyzeResumeWithProvider("b.pdf", "Gemini"))
+            .thenReturn(ResumeAnalysisResponse.success("b.pdf", "Analysis B", "Gemini"));
+        when(resumeAnalysisService.analyzeResumeWithProvider("missing.pdf", "Claude"))
+            .thenThrow(new ResumeNotFoundException("Arquivo não encontrado: missing.pdf"));
+
+        // Act
+        BatchAnalysisResponse response = batchAnalysisService.analyzeBatch(
+            new BatchAnalysisRequest(List.of("a.pdf", "b.pdf", "missing.pdf"), null));
+
+        // Assert
+        assertEquals(3, response.getTotalItems());
+        assertEquals(2, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals("a.pdf", response.getResults().get(0).getFileName());
+        assertEquals("Gemini", response.getResults().get(1).getAiProvider());
+        assertFalse(response.getResults().get(2).isSuccess());
+        verify(resumeAnalysisService, never()).analyzeResumeWithProvider("missing.pdf", "Gemini");
+    }
+
+    @Test
+    void testAnalyzeBatch_UploadedSinceUsesStoredFileNames() throws Exception {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusDays(1);
+        BatchAnalysisRequest request = new BatchAnalysisRequest();
+        request.setUploadedSince(since);
+        request.setAiProvider("gemini");
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(resumeService.findResumesUploadedSince(since)).thenReturn(List.of("new.pdf"));
+        when(resumeAnalysisService.analyzeResumeWithProvider("new.pdf", "Gemini"))
+            .thenReturn(ResumeAnalysisResponse.success("new.pdf", "Analysis", "Gemini"));
+
+        // Act
+        BatchAnalysisResponse response = batchAnalysisService.analyzeBatch(request);
+
+        // Assert
+        assertEquals(1, response.getTotalItems());
+        assertTrue(response.getResults().get(0).isSuccess());
+        verify(resumeAnalysisService, never()).analyzeResumeWithProvider(anyString(), eq("Claude"));
+    }
+
+    @Test
+    void testAnalyzeBatch_SaturatedExecutorRunsWorkersInlineWithinProviderLimit() throws Exception {
+        // Arrange
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1));
+        BatchAnalysisService saturatedService = new BatchAnalysisServiceImpl(resumeAnalysisService, resumeService,
+            claudeService, geminiService, new ProviderConcurrencyLimiter(2, 2), executor);
+        List<String> fileNames = List.of("a.pdf", "b.pdf", "c.pdf", "d.pdf", "e.pdf", "f.pdf");
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        AtomicInteger activeGemini = new AtomicInteger();
+        AtomicInteger maxActiveGemini = new AtomicInteger();
+        when(resumeAnalysisService.analyzeResumeWithProvider(anyString(), eq("Claude"))).thenAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return ResumeAnalysisResponse.success(invocation.getArgument(0), "Analysis", "Claude");
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        when(resumeAnalysisService.analyzeResumeWithProvider(anyString(), eq("Gemini"))).thenAnswer(invocation -> {
+            maxActiveGemini.accumulateAndGet(activeGemini.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return ResumeAnalysisResponse.success(invocation.getArgument(0), "Analysis", "Gemini");
+            } finally {
+                activeGemini.decrementAndGet();
+            }
+        });
+
+        try {
+            // Act
+            BatchAnalysisResponse response = saturatedService.analyzeBatch(new BatchAnalysisRequest(fileNames, null));
+
+            // Assert
+            assertEquals(6, response.getSucceeded());
+            assertTrue(maxActive.get() <= 2);
+            assertTrue(maxActiveGemini.get() <= 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAnalyzeBatch_BusyPreferredProviderSendsItemToIdleProvider() throws Exception {
+        // Arrange
+        ProviderConcurrencyLimiter limiter = new ProviderConcurrencyLimiter(1, 1);
+        BatchAnalysisService limitedService = new BatchAnalysisServiceImpl(resumeAnalysisService, resumeService,
+            claudeService, geminiService, limiter, Runnable::run);
+        CountDownLatch claudeBusy = new CountDownLatch(1);
+        CountDownLatch releaseClaude = new CountDownLatch(1);
+        Thread otherBatch = new Thread(() -> {
+            try {
+                limiter.execute("Claude", () -> {
+                    claudeBusy.countDown();
+                    return releaseClaude.await(5, TimeUnit.SECONDS);
+                });
+            } catch (Exception e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(resumeAnalysisService.analyzeResumeWithProvider("a.pdf", "Claude"))
+            .thenReturn(ResumeAnalysisResponse.success("a.pdf", "Analysis", "Claude"));
+        when(resumeAnalysisService.analyzeResumeWithProvider("a.pdf", "Gemini"))
+            .thenReturn(ResumeAnalysisResponse.success("a.pdf", "Analysis", "Gemini"));
+
+        otherBatch.start();
+        try {
+            assertTrue(claudeBusy.await(5, TimeUnit.SECONDS));
+
+            // Act
+            BatchAnalysisResponse response = limitedService.analyzeBatch(new BatchAnalysisRequest(List.of("a.pdf"), null));
+
+            // Assert
+            assertEquals("Gemini", response.getResults().get(0).getAiProvider());
+            assertEquals(1, releaseClaude.getCount());
+        } finally {
+            releaseClaude.countDown();
+            otherBatch.join();
+        }
+    }
+
+    @Test
+    void testAnalyzeBatch_UploadedSinceAboveLimitIsRejected() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusYears(1);
+        BatchAnalysisRequest request = new BatchAnalysisRequest();
+        request.setUploadedSince(since);
+        List<String> fileNames = IntStream.rangeClosed(0, BatchAnalysisRequest.MAX_FILES)
+            .mapToObj(i -> "resume-" + i + ".pdf")
+            .toList();
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(resumeService.findResumesUploadedSince(since)).thenReturn(fileNames);
+
+        // Act & Assert
+        assertThrows(BatchTooLargeException.class, () -> batchAnalysisService.analyzeBatch(request));
+        verify(resumeAnalysisService, never()).analyzeResumeWithProvider(anyString(), anyString());
+    }
+
+    @Test
+    void testAnalyzeBatch_NoServicesAvailable() {
+        // Arrange
+        when(claudeService.isServiceAvailable()).thenReturn(false);
+        when(geminiService.isServiceAvailable()).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(AIServiceException.class, () ->
+            batchAnalysisService.analyzeBatch(new BatchAnalysisRequest(List.of("a.pdf"), null)));
+    }
+}
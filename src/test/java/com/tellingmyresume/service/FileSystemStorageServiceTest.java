@@ -0,0 +1,220 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.tellingmyresume.exception.StorageException;
+import com.tellingmyresume.model.Resume;
+import com.tellingmyresume.repository.ResumeRepository;
+import com.tellingmyresume.repository.ResumeSummary;
+import com.tellingmyresume.repository.ResumeTextRepository;
+import com.tellingmyresume.utils.HashUtils;
+
+@ExtendWith(MockitoExtension.class)
+class FileSystemStorageServiceTest {
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private ResumeTextRepository resumeTextRepository;
+
+    @TempDir
+    Path storageRoot;
+
+    private FileSystemStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new FileSystemStorageService(resumeRepository, resumeTextRepository, storageRoot.toString());
+    }
+
+    @Test
+    void testSave_WritesContentAddressedShardedFile() throws Exception {
+        // Arrange
+        byte[] content = "Resume content".getBytes();
+        String checksum = HashUtils.sha256Hex(content);
+        MockMultipartFile file = new MockMultipartFile("file", "resume.txt", "text/plain", content);
+
+        // Act
+        storageService.save("resume.txt", file);
+
+        // Assert
+        Path stored = storageRoot.resolve(checksum.substring(0, 2)).resolve(checksum.substring(2, 4)).resolve(checksum);
+        assertTrue(Files.exists(stored));
+        assertArrayEquals(content, Files.readAllBytes(stored));
+        verify(resumeRepository).save(any(Resume.class));
+    }
+
+    @Test
+    void testRead_ReturnsStoredContent() throws Exception {
+        // Arrange
+        byte[] content = "Resume content".getBytes();
+        String checksum = HashUtils.sha256Hex(content);
+        storageService.save("resume.txt", new MockMultipartFile("file", "resume.txt", "text/plain", content));
+        ResumeSummary summary = mock(ResumeSummary.class);
+        when(summary.getContentChecksum()).thenReturn(checksum);
+        when(resumeRepository.findSummaryByFileName("resume.txt")).thenReturn(Optional.of(summary));
+
+        // Act
+        byte[] result = storageService.read("resume.txt");
+
+        // Assert
+        assertArrayEquals(content, result);
+    }
+
+    @Test
+    void testRead_NotFound() {
+        // Arrange
+        when(resumeRepository.findSummaryByFileName("missing.txt")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(StorageException.class, () -> storageService.read("missing.txt"));
+    }
+
+    @Test
+    void testDelete_RemovesUnreferencedContent() throws Exception {
+        // Arrange
+        byte[] content = "Resume content".getBytes();
+        String checksum = HashUtils.sha256Hex(content);
+        storageService.save("resume.txt", new MockMultipartFile("file", "resume.txt", "text/plain", content));
+        ResumeSummary summary = mock(ResumeSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getContentChecksum()).thenReturn(checksum);
+        when(resumeRepository.findSummaryByFileName("resume.txt")).thenReturn(Optional.of(summary));
+        when(resumeRepository.existsByContentChecksum(checksum)).thenReturn(false);
+
+        // Act
+        storageService.delete("resume.txt");
+
+        // Assert
+        Path stored = storageRoot.resolve(checksum.substring(0, 2)).resolve(checksum.substring(2, 4)).resolve(checksum);
+        assertFalse(Files.exists(stored));
+        verify(resumeRepository).deleteResumeById(1L);
+    }
+
+    @Test
+    void testDelete_RemovesContentOnlyAfterCommit() throws Exception {
+        // Arrange
+        byte[] content = "Resume content".getBytes();
+        String checksum = HashUtils.sha256Hex(content);
+        storageService.save("resume.txt", new MockMultipartFile("file", "resume.txt", "text/plain", content));
+        ResumeSummary summary = mock(ResumeSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getContentChecksum()).thenReturn(checksum);
+        when(resumeRepository.findSummaryByFileName("resume.txt")).thenReturn(Optional.of(summary));
+        when(resumeRepository.existsByContentChecksum(checksum)).thenReturn(false);
+        Path stored = storageRoot.resolve(checksum.substring(0, 2)).resolve(checksum.substring(2, 4)).resolve(checksum);
+
+        // Act
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storageService.delete("resume.txt");
+            assertTrue(Files.exists(stored));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertFalse(Files.exists(stored));
+    }
+
+    @Test
+    void testDelete_KeepsContentReferencedBeforeCommit() throws Exception {
+        // Arrange: um upload do mesmo conteúdo foi efetivado enquanto a exclusão estava em andamento
+        byte[] content = "Resume content".getBytes();
+        String checksum = HashUtils.sha256Hex(content);
+        storageService.save("resume.txt", new MockMultipartFile("file", "resume.txt", "text/plain", content));
+        ResumeSummary summary = mock(ResumeSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getContentChecksum()).thenReturn(checksum);
+        when(resumeRepository.findSummaryByFileName("resume.txt")).thenReturn(Optional.of(summary));
+        when(resumeRepository.existsByContentChecksum(checksum)).thenReturn(true);
+
+        // Act
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storageService.delete("resume.txt");
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        Path stored = storageRoot.resolve(checksum.substring(0, 2)).resolve(checksum.substring(2, 4)).resolve(checksum);
+        assertTrue(Files.exists(stored));
+    }
+
+    @Test
+    void testSaveExtractedText_StoredOutsideResumeEntity() throws Exception {
+        // Arrange
+        ResumeSummary summary = mock(ResumeSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getContentChecksum()).thenReturn("checksum");
+        when(resumeRepository.findSummaryByFileName("resume.txt")).thenReturn(Optional.of(summary));
+
+        // Act
+        storageService.saveExtractedText("resume.txt", "checksum", "Resume content");
+
+        // Assert
+        verify(resumeTextRepository).upsertText(1L, "Resume content");
+    }
+
+    @Test
+    void testSaveExtractedText_SkipsTextOfReplacedFile() throws Exception {
+        // Arrange
+        ResumeSummary summary = mock(ResumeSummary.class);
+        when(summary.getContentChecksum()).thenReturn("new-checksum");
+        when(resumeRepository.findSummaryByFileName("resume.txt")).thenReturn(Optional.of(summary));
+
+        // Act
+        storageService.saveExtractedText("resume.txt", "old-checksum", "Old content");
+
+        // Assert
+        verify(resumeTextRepository, never()).upsertText(anyLong(), anyString());
+    }
+
+    @Test
+    void testSaveExtractedText_ConcurrentReaderAlreadyStoredText() throws Exception {
+        // Arrange
+        ResumeSummary summary = mock(ResumeSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getContentChecksum()).thenReturn("checksum");
+        when(resumeRepository.findSummaryByFileName("resume.txt")).thenReturn(Optional.of(summary));
+        when(resumeTextRepository.upsertText(1L, "Resume content"))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> storageService.saveExtractedText("resume.txt", "checksum", "Resume content"));
+    }
+}
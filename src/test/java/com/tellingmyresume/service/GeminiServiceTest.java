@@ -0,0 +1,94 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tellingmyresume.exception.GeminiServiceException;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+class GeminiServiceTest {
+
+    private HttpClient httpClient;
+    private GeminiService geminiService;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = mock(HttpClient.class);
+        geminiService = new GeminiService(mock(RestTemplate.class), httpClient, new ObjectMapper(),
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(geminiService, "apiKey", "test-key");
+        ReflectionTestUtils.setField(geminiService, "requestTimeout", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testGenerateResumeAsync_Success() throws Exception {
+        // Arrange
+        respondWith(200, "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Análise do Gemini\"}]}}]}");
+
+        // Act
+        String analysis = geminiService.generateResumeAsync("Resume content").get();
+
+        // Assert
+        assertEquals("Análise do Gemini", analysis);
+    }
+
+    @Test
+    void testGenerateResumeAsync_HttpErrorFailsWithGeminiException() {
+        // Arrange
+        respondWith(500, "{\"error\":\"internal\"}");
+
+        // Act
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> geminiService.generateResumeAsync("Resume content").get());
+
+        // Assert
+        assertInstanceOf(GeminiServiceException.class, failure.getCause());
+        assertTrue(failure.getCause().getMessage().contains("HTTP 500"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGenerateResumeAsync_TimeoutFailsWithGeminiException() {
+        // Arrange
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new HttpTimeoutException("request timed out")));
+
+        // Act
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> geminiService.generateResumeAsync("Resume content").get());
+
+        // Assert
+        assertInstanceOf(GeminiServiceException.class, failure.getCause());
+        assertInstanceOf(HttpTimeoutException.class, failure.getCause().getCause());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respondWith(int status, String body) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(response.body()).thenReturn(body);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+    }
+}
@@ -0,0 +1,145 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgedRequestExecutorTest {
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testInvoke_SlowPrimaryIsHedgedAndCancelledWithoutInterruption() throws Exception {
+        // Arrange
+        HedgedRequestExecutor hedgedExecutor = new HedgedRequestExecutor(executorService, "hedged", Duration.ofMillis(50));
+        CountDownLatch secondaryWon = new CountDownLatch(1);
+        CountDownLatch primaryFinished = new CountDownLatch(1);
+        AtomicBoolean primaryInterrupted = new AtomicBoolean(false);
+        AtomicBoolean primarySawCancellation = new AtomicBoolean(false);
+        Callable<String> slowPrimary = () -> {
+            BooleanSupplier cancelled = HedgedRequestExecutor.currentAttemptCancellation();
+            try {
+                secondaryWon.await(5, TimeUnit.SECONDS);
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                primaryInterrupted.set(true);
+            }
+            primarySawCancellation.set(cancelled.getAsBoolean());
+            primaryFinished.countDown();
+            return "primary";
+        };
+        Callable<String> fastSecondary = () -> "secondary";
+
+        // Act
+        String result = hedgedExecutor.invoke(List.of(slowPrimary, fastSecondary), value -> true);
+        secondaryWon.countDown();
+
+        // Assert
+        assertEquals("secondary", result);
+        assertTrue(primaryFinished.await(1, TimeUnit.SECONDS));
+        assertFalse(primaryInterrupted.get());
+        assertTrue(primarySawCancellation.get());
+    }
+
+    @Test
+    void testCurrentAttemptCancellation_FalseOutsideAttempts() {
+        // Act & Assert
+        assertFalse(HedgedRequestExecutor.currentAttemptCancellation().getAsBoolean());
+    }
+
+    @Test
+    void testInvoke_FastPrimaryDoesNotStartSecondary() throws Exception {
+        // Arrange
+        HedgedRequestExecutor hedgedExecutor = new HedgedRequestExecutor(executorService, "hedged", Duration.ofSeconds(5));
+        AtomicBoolean secondaryStarted = new AtomicBoolean(false);
+        Callable<String> fastPrimary = () -> "primary";
+        Callable<String> secondary = () -> {
+            secondaryStarted.set(true);
+            return "secondary";
+        };
+
+        // Act
+        String result = hedgedExecutor.invoke(List.of(fastPrimary, secondary), value -> true);
+
+        // Assert
+        assertEquals("primary", result);
+        assertFalse(secondaryStarted.get());
+    }
+
+    @Test
+    void testInvoke_FailedPrimaryStartsSecondaryImmediately() throws Exception {
+        // Arrange
+        HedgedRequestExecutor hedgedExecutor = new HedgedRequestExecutor(executorService, "hedged", Duration.ofSeconds(30));
+        Callable<String> failingPrimary = () -> {
+            throw new IllegalStateException("primary down");
+        };
+        Callable<String> secondary = () -> "secondary";
+
+        // Act
+        long start = System.nanoTime();
+        String result = hedgedExecutor.invoke(List.of(failingPrimary, secondary), value -> true);
+
+        // Assert
+        assertEquals("secondary", result);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    void testInvoke_SaturatedExecutorRunsAttemptInline() throws Exception {
+        // Arrange
+        HedgedRequestExecutor hedgedExecutor = new HedgedRequestExecutor(task -> {
+            throw new RejectedExecutionException("Executor cheio");
+        }, "hedged", Duration.ofMillis(50));
+        Thread caller = Thread.currentThread();
+        AtomicBoolean ranOnCaller = new AtomicBoolean(false);
+        Callable<String> primary = () -> {
+            ranOnCaller.set(Thread.currentThread() == caller);
+            return "primary";
+        };
+
+        // Act
+        String result = hedgedExecutor.invoke(List.of(primary, () -> "secondary"), value -> true);
+
+        // Assert
+        assertEquals("primary", result);
+        assertTrue(ranOnCaller.get());
+    }
+
+    @Test
+    void testInvoke_AllAttemptsFail() {
+        // Arrange
+        HedgedRequestExecutor hedgedExecutor = new HedgedRequestExecutor(executorService, "parallel", Duration.ofSeconds(1));
+        Callable<String> failing = () -> {
+            throw new IllegalStateException("down");
+        };
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> hedgedExecutor.invoke(List.of(failing, failing), value -> true));
+    }
+}
@@ -0,0 +1,71 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ProviderRoutingEngineTest {
+
+    private static final List<String> PROVIDERS = List.of("Claude", "Gemini");
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ProviderRoutingEngine routingEngine = new ProviderRoutingEngine(100, 5, Duration.ofMinutes(10),
+            0.0, 1.0, 2.0, 0.5, 0.003, 0.00035, clock::get);
+
+    @Test
+    void testRank_ExploresAndReordersStartingFromZeroGeminiSamples() {
+        // Arrange
+        record("Claude", 10, Duration.ofSeconds(5), true);
+
+        // Act
+        List<String> first = routingEngine.rank(PROVIDERS);
+        List<String> second = routingEngine.rank(PROVIDERS);
+        record("Gemini", 5, Duration.ofSeconds(1), true);
+        List<String> sampled = routingEngine.rank(PROVIDERS);
+
+        // Assert
+        assertEquals(List.of("Claude", "Gemini"), first);
+        assertEquals(List.of("Gemini", "Claude"), second);
+        assertEquals(List.of("Gemini", "Claude"), sampled);
+        assertEquals(List.of("Gemini", "Claude"), routingEngine.rank(PROVIDERS));
+    }
+
+    @Test
+    void testCurrentOrder_KeepsStaticPriorityWithoutRotating() {
+        // Arrange
+        record("Claude", 10, Duration.ofSeconds(5), true);
+
+        // Act & Assert
+        assertEquals(PROVIDERS, routingEngine.currentOrder(PROVIDERS));
+        assertEquals(PROVIDERS, routingEngine.currentOrder(PROVIDERS));
+    }
+
+    @Test
+    void testRank_OldSamplesStopCounting() {
+        // Arrange
+        record("Claude", 5, Duration.ofSeconds(5), false);
+        record("Gemini", 5, Duration.ofSeconds(1), true);
+        List<String> beforeRecovery = routingEngine.rank(PROVIDERS);
+
+        // Act
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        record("Claude", 5, Duration.ofSeconds(1), true);
+        record("Gemini", 5, Duration.ofSeconds(3), true);
+
+        // Assert
+        assertEquals(List.of("Gemini", "Claude"), beforeRecovery);
+        assertEquals(List.of("Claude", "Gemini"), routingEngine.rank(PROVIDERS));
+        assertEquals(5, routingEngine.snapshot(PROVIDERS).get(0).getSamples());
+        assertEquals(0.0, routingEngine.snapshot(PROVIDERS).get(0).getErrorRate());
+    }
+
+    private void record(String provider, int samples, Duration latency, boolean success) {
+        for (int i = 0; i < samples; i++) {
+            routingEngine.record(provider, latency, success, 1000);
+        }
+    }
+}
@@ -7,13 +7,22 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,17 +33,26 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.tellingmyresume.constants.ErrorMessages;
 import com.tellingmyresume.dto.request.ResumeUploadRequest;
+import com.tellingmyresume.dto.response.AnalysisStreamEvent;
+import com.tellingmyresume.dto.response.ProviderRoutingStats;
 import com.tellingmyresume.dto.response.ResumeAnalysisResponse;
 import com.tellingmyresume.dto.response.ResumeContentResponse;
 import com.tellingmyresume.dto.response.ResumeUploadResponse;
 import com.tellingmyresume.exception.AIServiceException;
+import com.tellingmyresume.exception.ClaudeServiceException;
 import com.tellingmyresume.exception.ResumeNotFoundException;
 import com.tellingmyresume.exception.ResumeStorageException;
 import com.tellingmyresume.mapper.ResumeMapperInterface;
 import com.tellingmyresume.service.ResumeDataService;
 import com.tellingmyresume.service.impl.ResumeAnalysisServiceImpl;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ResumeAnalysisServiceTest {
@@ -54,12 +72,19 @@ class ResumeAnalysisServiceTest {
     @Mock
     private MultipartFile mockFile;
 
+    private AnalysisCacheService analysisCache;
+
     private ResumeAnalysisService resumeAnalysisService;
 
     @BeforeEach
     void setUp() {
+        analysisCache = new AnalysisCacheService(100, Duration.ofMinutes(10), "v1",
+            Duration.ofSeconds(5), new SimpleMeterRegistry());
         resumeAnalysisService = new ResumeAnalysisServiceImpl(
-            resumeService, claudeService, geminiService, resumeMapper);
+            resumeService, claudeService, geminiService, resumeMapper, analysisCache,
+            new HedgedRequestExecutor(Runnable::run, "sequential", Duration.ZERO),
+            new ProviderRoutingEngine(100, 5, Duration.ofMinutes(10), 0.0, 1.0, 2.0, 0.5, 0.003, 0.00035),
+            new ResumePreprocessor(24000, 6000, 4000), Runnable::run);
     }
 
     @Test
@@ -146,7 +171,7 @@ class ResumeAnalysisServiceTest {
         when(geminiService.getProviderName()).thenReturn("Gemini");
         when(resumeService.readResume(fileName)).thenReturn(resumeContent);
         when(claudeService.isServiceAvailable()).thenReturn(true);
-        when(claudeService.generateResume(resumeContent)).thenReturn(analysis);
+        when(claudeService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(analysis));
         when(resumeMapper.toAnalysisResponse(fileName, analysis, provider)).thenReturn(expectedResponse);
 
         // Act
@@ -158,7 +183,7 @@ class ResumeAnalysisServiceTest {
         assertEquals(analysis, result.getAnalysis());
         assertEquals(provider, result.getAiProvider());
         verify(claudeService).isServiceAvailable();
-        verify(claudeService).generateResume(resumeContent);
+        verify(claudeService).generateResumeAsync(resumeContent);
     }
 
     @Test
@@ -177,7 +202,7 @@ class ResumeAnalysisServiceTest {
         when(geminiService.getProviderName()).thenReturn("Gemini");
         when(resumeService.readResume(fileName)).thenReturn(resumeContent);
         when(geminiService.isServiceAvailable()).thenReturn(true);
-        when(geminiService.generateResume(resumeContent)).thenReturn(analysis);
+        when(geminiService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(analysis));
         when(resumeMapper.toAnalysisResponse(fileName, analysis, provider)).thenReturn(expectedResponse);
 
         // Act
@@ -189,7 +214,7 @@ class ResumeAnalysisServiceTest {
         assertEquals(analysis, result.getAnalysis());
         assertEquals(provider, result.getAiProvider());
         verify(geminiService).isServiceAvailable();
-        verify(geminiService).generateResume(resumeContent);
+        verify(geminiService).generateResumeAsync(resumeContent);
     }
 
     @Test
@@ -209,7 +234,7 @@ class ResumeAnalysisServiceTest {
             resumeAnalysisService.analyzeResumeWithProvider(fileName, provider));
         
         verify(claudeService).isServiceAvailable();
-        verify(claudeService, times(0)).generateResume(anyString());
+        verify(claudeService, times(0)).generateResumeAsync(anyString());
     }
 
     @Test
@@ -242,7 +267,7 @@ class ResumeAnalysisServiceTest {
         when(geminiService.getProviderName()).thenReturn("Gemini");
         when(resumeService.readResume(fileName)).thenReturn(resumeContent);
         when(claudeService.isServiceAvailable()).thenReturn(true);
-        when(claudeService.generateResume(resumeContent)).thenReturn(analysis);
+        when(claudeService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(analysis));
         when(resumeMapper.toAnalysisResponse(fileName, analysis, "Claude")).thenReturn(expectedResponse);
 
         // Act
@@ -253,7 +278,7 @@ class ResumeAnalysisServiceTest {
         assertEquals("Claude", result.getAiProvider());
         assertEquals(analysis, result.getAnalysis());
         verify(claudeService, times(2)).isServiceAvailable(); // Called once in loop, once in analyzeResumeWithProvider
-        verify(claudeService).generateResume(resumeContent);
+        verify(claudeService).generateResumeAsync(resumeContent);
         verify(geminiService, times(0)).isServiceAvailable(); // Should not check Gemini if Claude is available
     }
 
@@ -272,7 +297,7 @@ class ResumeAnalysisServiceTest {
         when(resumeService.readResume(fileName)).thenReturn(resumeContent);
         when(claudeService.isServiceAvailable()).thenReturn(false);
         when(geminiService.isServiceAvailable()).thenReturn(true);
-        when(geminiService.generateResume(resumeContent)).thenReturn(analysis);
+        when(geminiService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(analysis));
         when(resumeMapper.toAnalysisResponse(fileName, analysis, "Gemini")).thenReturn(expectedResponse);
 
         // Act
@@ -284,7 +309,99 @@ class ResumeAnalysisServiceTest {
         assertEquals(analysis, result.getAnalysis());
         verify(claudeService).isServiceAvailable();
         verify(geminiService, times(2)).isServiceAvailable(); // Called once in loop, once in analyzeResumeWithProvider
-        verify(geminiService).generateResume(resumeContent);
+        verify(geminiService).generateResumeAsync(resumeContent);
+    }
+
+    @Test
+    void testAnalyzeResumeWithBestAvailable_HedgeLoserDoesNotBecomeRoutingSample() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ProviderRoutingEngine routingEngine = new ProviderRoutingEngine(100, 5, Duration.ofMinutes(10), 0.0, 1.0, 2.0, 0.5, 0.003, 0.00035);
+        ResumeAnalysisService hedgedService = new ResumeAnalysisServiceImpl(
+            resumeService, claudeService, geminiService, resumeMapper, analysisCache,
+            new HedgedRequestExecutor(executor, "hedged", Duration.ofMillis(20)),
+            routingEngine, new ResumePreprocessor(24000, 6000, 4000), Runnable::run);
+        String fileName = "test-resume.pdf";
+        String resumeContent = "Resume content";
+        CountDownLatch releaseClaude = new CountDownLatch(1);
+        CountDownLatch claudeFinished = new CountDownLatch(1);
+
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(geminiService.getProviderName()).thenReturn("Gemini");
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.generateResumeAsync(resumeContent)).thenAnswer(invocation -> {
+            releaseClaude.await(5, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture("Claude analysis");
+        });
+        when(geminiService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture("Gemini analysis"));
+        when(resumeMapper.toAnalysisResponse(fileName, "Gemini analysis", "Gemini"))
+            .thenReturn(ResumeAnalysisResponse.success(fileName, "Gemini analysis", "Gemini"));
+        when(resumeMapper.toAnalysisResponse(fileName, "Claude analysis", "Claude")).thenAnswer(invocation -> {
+            claudeFinished.countDown();
+            return ResumeAnalysisResponse.success(fileName, "Claude analysis", "Claude");
+        });
+
+        try {
+            // Act
+            ResumeAnalysisResponse result = hedgedService.analyzeResumeWithBestAvailable(fileName);
+            releaseClaude.countDown();
+
+            // Assert
+            assertEquals("Gemini", result.getAiProvider());
+            assertTrue(claudeFinished.await(1, TimeUnit.SECONDS));
+            List<ProviderRoutingStats> stats = routingEngine.snapshot(List.of("Claude", "Gemini"));
+            assertEquals(0, stats.get(0).getSamples());
+            assertEquals(1, stats.get(1).getSamples());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAnalyzeResumeWithBestAvailable_GeminiFallbackDoesNotWinHedge() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ResumeAnalysisService hedgedService = new ResumeAnalysisServiceImpl(
+            resumeService, claudeService, geminiService, resumeMapper, analysisCache,
+            new HedgedRequestExecutor(executor, "hedged", Duration.ofMillis(20)),
+            new ProviderRoutingEngine(100, 5, Duration.ofMinutes(10), 0.0, 1.0, 2.0, 0.5, 0.003, 0.00035),
+            new ResumePreprocessor(24000, 6000, 4000), Runnable::run);
+        String fileName = "test-resume.pdf";
+        String resumeContent = "Resume content";
+        CountDownLatch geminiFellBack = new CountDownLatch(1);
+
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(geminiService.getProviderName()).thenReturn("Gemini");
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.generateResumeAsync(resumeContent)).thenAnswer(invocation -> {
+            geminiFellBack.await(5, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture("Claude analysis");
+        });
+        when(geminiService.generateResumeAsync(resumeContent))
+            .thenReturn(CompletableFuture.completedFuture(ErrorMessages.GEMINI_FALLBACK_MESSAGE));
+        when(resumeMapper.toAnalysisErrorResponse(fileName, ErrorMessages.GEMINI_FALLBACK_MESSAGE, "Gemini")).thenAnswer(invocation -> {
+            geminiFellBack.countDown();
+            return ResumeAnalysisResponse.error(fileName, ErrorMessages.GEMINI_FALLBACK_MESSAGE, "Gemini");
+        });
+        when(resumeMapper.toAnalysisResponse(fileName, "Claude analysis", "Claude"))
+            .thenReturn(ResumeAnalysisResponse.success(fileName, "Claude analysis", "Claude"));
+
+        try {
+            // Act
+            ResumeAnalysisResponse result = hedgedService.analyzeResumeWithBestAvailable(fileName);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            assertEquals("Claude", result.getAiProvider());
+            assertEquals("Claude analysis", result.getAnalysis());
+            verify(resumeMapper, never()).toAnalysisResponse(fileName, ErrorMessages.GEMINI_FALLBACK_MESSAGE, "Gemini");
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Test
@@ -319,7 +436,7 @@ class ResumeAnalysisServiceTest {
         when(geminiService.getProviderName()).thenReturn("Gemini");
         when(resumeService.readResume(fileName)).thenReturn(resumeContent);
         when(claudeService.isServiceAvailable()).thenReturn(true);
-        when(claudeService.generateResume(resumeContent)).thenReturn(analysis);
+        when(claudeService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(analysis));
         when(resumeMapper.toAnalysisResponse(fileName, analysis, provider)).thenReturn(expectedResponse);
 
         // Act
@@ -333,6 +450,190 @@ class ResumeAnalysisServiceTest {
         assertEquals(provider, response.getAiProvider());
     }
 
+    @Test
+    void testAnalyzeResumeWithProvider_CachedAnalysisSkipsProvider() throws Exception {
+        // Arrange
+        String fileName = "test-resume.pdf";
+        String provider = "Claude";
+        String resumeContent = "Resume content";
+        String analysis = "AI analysis result";
+        
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(claudeService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(analysis));
+        when(resumeMapper.toAnalysisResponse(fileName, analysis, provider))
+            .thenReturn(ResumeAnalysisResponse.success(fileName, analysis, provider));
+
+        // Act
+        resumeAnalysisService.analyzeResumeWithProvider(fileName, provider);
+        ResumeAnalysisResponse result = resumeAnalysisService.analyzeResumeWithProvider(fileName, provider);
+
+        // Assert
+        assertEquals(analysis, result.getAnalysis());
+        verify(claudeService, times(1)).generateResumeAsync(resumeContent);
+        assertEquals(1, analysisCache.size());
+    }
+
+    @Test
+    void testAnalyzeResumeWithProvider_FallbackMessageIsNotCached() throws Exception {
+        // Arrange
+        String fileName = "test-resume.pdf";
+        String resumeContent = "Resume content";
+        
+        when(geminiService.getProviderName()).thenReturn("Gemini");
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(ErrorMessages.GEMINI_FALLBACK_MESSAGE));
+
+        when(resumeMapper.toAnalysisErrorResponse(fileName, ErrorMessages.GEMINI_FALLBACK_MESSAGE, "Gemini"))
+            .thenReturn(ResumeAnalysisResponse.error(fileName, ErrorMessages.GEMINI_FALLBACK_MESSAGE, "Gemini"));
+
+        // Act
+        ResumeAnalysisResponse result = resumeAnalysisService.analyzeResumeWithProvider(fileName, "Gemini");
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals(0, analysisCache.size());
+    }
+
+    @Test
+    void testAnalyzeResumeWithProvider_LongResumeIsAnalyzedBySections() throws Exception {
+        // Arrange
+        ResumeAnalysisService chunkingService = new ResumeAnalysisServiceImpl(
+            resumeService, claudeService, geminiService, resumeMapper, analysisCache,
+            new HedgedRequestExecutor(Runnable::run, "sequential", Duration.ZERO),
+            new ProviderRoutingEngine(100, 5, Duration.ofMinutes(10), 0.0, 1.0, 2.0, 0.5, 0.003, 0.00035),
+            new ResumePreprocessor(1000, 10, 20), Runnable::run);
+        String fileName = "long-resume.pdf";
+        String resumeContent = "Experiência: desenvolvedor Java há dez anos\n\n\n"
+                + "Página 1 de 2\n\nFormação: ciência da computação pela USP";
+        
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(claudeService.generateResumeAsync(startsWith("[Seção 1 de 2]"))).thenReturn(CompletableFuture.completedFuture("Parcial experiência"));
+        when(claudeService.generateResumeAsync(startsWith("[Seção 2 de 2]"))).thenReturn(CompletableFuture.completedFuture("Parcial formação"));
+        when(claudeService.generateResumeAsync(startsWith("O currículo é longo"))).thenReturn(CompletableFuture.completedFuture("Análise consolidada"));
+        when(resumeMapper.toAnalysisResponse(fileName, "Análise consolidada", "Claude"))
+            .thenReturn(ResumeAnalysisResponse.success(fileName, "Análise consolidada", "Claude"));
+
+        // Act
+        ResumeAnalysisResponse result = chunkingService.analyzeResumeWithProvider(fileName, "Claude");
+
+        // Assert
+        assertEquals("Análise consolidada", result.getAnalysis());
+        verify(claudeService).generateResumeAsync(
+            "[Seção 1 de 2]\nExperiência: desenvolvedor Java há dez anos");
+        verify(claudeService).generateResumeAsync(
+            "[Seção 2 de 2]\nFormação: ciência da computação pela USP");
+        verify(claudeService).generateResumeAsync(
+            argThat((String merged) -> merged.contains("Parcial experiência") && merged.contains("Parcial formação")));
+    }
+
+    @Test
+    void testDeleteResume_InvalidatesCachedAnalysis() throws Exception {
+        // Arrange
+        String fileName = "test-resume.pdf";
+        String resumeContent = "Resume content";
+        String analysis = "AI analysis result";
+        
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(claudeService.generateResumeAsync(resumeContent)).thenReturn(CompletableFuture.completedFuture(analysis));
+        resumeAnalysisService.analyzeResumeWithProvider(fileName, "Claude");
+
+        // Act
+        resumeAnalysisService.deleteResume(fileName);
+
+        // Assert
+        assertEquals(0, analysisCache.size());
+    }
+
+    @Test
+    void testStreamResumeAnalysis_EmitsChunksAndCachesResult() throws Exception {
+        // Arrange
+        String fileName = "test-resume.pdf";
+        String resumeContent = "Resume content";
+        
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(claudeService.generateResumeStream(resumeContent)).thenReturn(Flux.just("AI ", "analysis"));
+
+        // Act
+        List<AnalysisStreamEvent> events = resumeAnalysisService.streamResumeAnalysis(fileName, "Claude")
+            .collectList().block();
+
+        // Assert
+        assertEquals(3, events.size());
+        assertEquals("AI ", events.get(0).getContent());
+        assertEquals("analysis", events.get(1).getContent());
+        assertEquals(AnalysisStreamEvent.COMPLETE, events.get(2).getType());
+        assertEquals(1, analysisCache.size());
+    }
+
+    @Test
+    void testStreamResumeAnalysis_FallsBackBeforeFirstChunk() throws Exception {
+        // Arrange
+        String fileName = "test-resume.pdf";
+        String resumeContent = "Resume content";
+        
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(geminiService.getProviderName()).thenReturn("Gemini");
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(claudeService.generateResumeStream(resumeContent))
+            .thenReturn(Flux.error(new ClaudeServiceException("Claude indisponível")));
+        when(geminiService.generateResumeStream(resumeContent)).thenReturn(Flux.just("Gemini analysis"));
+
+        // Act
+        List<AnalysisStreamEvent> events = resumeAnalysisService.streamResumeAnalysis(fileName, null)
+            .collectList().block();
+
+        // Assert
+        assertEquals(2, events.size());
+        assertEquals("Gemini", events.get(0).getAiProvider());
+        assertEquals("Gemini analysis", events.get(0).getContent());
+        assertEquals(AnalysisStreamEvent.COMPLETE, events.get(1).getType());
+    }
+
+    @Test
+    void testStreamResumeAnalysis_RecordsRoutingSamplesWhenStreamsFinish() throws Exception {
+        // Arrange
+        ProviderRoutingEngine routingEngine = new ProviderRoutingEngine(100, 5, Duration.ofMinutes(10), 0.0, 1.0, 2.0, 0.5, 0.003, 0.00035);
+        ResumeAnalysisService streamingService = new ResumeAnalysisServiceImpl(
+            resumeService, claudeService, geminiService, resumeMapper, analysisCache,
+            new HedgedRequestExecutor(Runnable::run, "sequential", Duration.ZERO),
+            routingEngine, new ResumePreprocessor(24000, 6000, 4000), Runnable::run);
+        String fileName = "test-resume.pdf";
+        String resumeContent = "Resume content";
+
+        when(claudeService.getProviderName()).thenReturn("Claude");
+        when(geminiService.getProviderName()).thenReturn("Gemini");
+        when(resumeService.readResume(fileName)).thenReturn(resumeContent);
+        when(claudeService.isServiceAvailable()).thenReturn(true);
+        when(geminiService.isServiceAvailable()).thenReturn(true);
+        when(claudeService.generateResumeStream(resumeContent))
+            .thenReturn(Flux.error(new ClaudeServiceException("Claude indisponível")))
+            .thenReturn(Flux.error(CallNotPermittedException.createCallNotPermittedException(
+                CircuitBreaker.ofDefaults("claudeService"))));
+        when(geminiService.generateResumeStream(resumeContent)).thenReturn(Flux.just("Gemini ", "analysis"));
+
+        // Act
+        streamingService.streamResumeAnalysis(fileName, null).collectList().block();
+        analysisCache.invalidate(fileName);
+        streamingService.streamResumeAnalysis(fileName, "Claude").collectList().block();
+
+        // Assert
+        List<ProviderRoutingStats> stats = routingEngine.snapshot(List.of("Claude", "Gemini"));
+        assertEquals(1, stats.get(0).getSamples());
+        assertEquals(1.0, stats.get(0).getErrorRate());
+        assertEquals(1, stats.get(1).getSamples());
+        assertEquals(0.0, stats.get(1).getErrorRate());
+    }
+
     @Test
     void testIsResumeAvailable_True() {
         // Arrange
@@ -0,0 +1,65 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tellingmyresume.repository.ResumeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeNameIndexTest {
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    private ResumeNameIndex resumeNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        resumeNameIndex = new ResumeNameIndex(resumeRepository, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void testContains_AsksDatabaseOnceWithinTtl() {
+        // Arrange
+        when(resumeRepository.existsByFileName("resume.pdf")).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(resumeNameIndex.contains("resume.pdf"));
+        assertTrue(resumeNameIndex.contains("resume.pdf"));
+        verify(resumeRepository, times(1)).existsByFileName("resume.pdf");
+    }
+
+    @Test
+    void testContains_SeesResumeAddedByAnotherInstanceAfterTtl() throws Exception {
+        // Arrange
+        ResumeNameIndex shortLived = new ResumeNameIndex(resumeRepository, Duration.ofMillis(50), 100);
+        when(resumeRepository.existsByFileName("resume.pdf")).thenReturn(false, true);
+
+        // Act & Assert
+        assertFalse(shortLived.contains("resume.pdf"));
+        Thread.sleep(100);
+        assertTrue(shortLived.contains("resume.pdf"));
+    }
+
+    @Test
+    void testAddAndRemove_UpdateLocalAnswerImmediately() {
+        // Act & Assert
+        resumeNameIndex.add("resume.pdf");
+        assertTrue(resumeNameIndex.contains("resume.pdf"));
+        resumeNameIndex.remove("resume.pdf");
+        assertFalse(resumeNameIndex.contains("resume.pdf"));
+        verify(resumeRepository, never()).existsByFileName("resume.pdf");
+    }
+}
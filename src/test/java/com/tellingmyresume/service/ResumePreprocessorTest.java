@@ -0,0 +1,119 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tellingmyresume.service.ResumePreprocessor.PreparedResume;
+
+class ResumePreprocessorTest {
+
+    private final ResumePreprocessor preprocessor = new ResumePreprocessor(50, 20, 10);
+
+    @Test
+    void testNormalize_StripsPageMarkersRepeatedHeadersAndWhitespace() {
+        // Arrange
+        String content = "João Silva - Currículo\r\n"
+                + "Desenvolvedor   Java\t\tSênior\n\n\n\n"
+                + "Página 1 de 3\n\f"
+                + "João Silva - Currículo\n"
+                + "Spring Boot e Kafka\n"
+                + "- 2 -\n\f"
+                + "João Silva - Currículo\n"
+                + "AWS Certified\u0007";
+
+        // Act
+        String normalized = preprocessor.normalize(content);
+
+        // Assert
+        assertEquals("João Silva - Currículo\n"
+                + "Desenvolvedor Java Sênior\n\n"
+                + "Spring Boot e Kafka\n\n"
+                + "AWS Certified", normalized);
+    }
+
+    @Test
+    void testNormalize_KeepsDatesNumbersAndRepeatedJobHeadings() {
+        // Arrange
+        String content = "Desenvolvedor Backend\n"
+                + "2019\n"
+                + "01/2019 - 12/2021\n"
+                + "Responsabilidades\n"
+                + "APIs REST\n"
+                + "Desenvolvedor Backend\n"
+                + "2 de 3 projetos entregues\n"
+                + "Responsabilidades\n"
+                + "Mensageria\n"
+                + "Desenvolvedor Backend\n"
+                + "Responsabilidades\n"
+                + "- 5 anos de experiência";
+
+        // Act
+        String normalized = preprocessor.normalize(content);
+
+        // Assert
+        assertEquals(content, normalized);
+    }
+
+    @Test
+    void testNormalize_RemovesFootersOnlyAtPageBoundaries() {
+        // Arrange
+        String content = "Maria Souza\nExperiência\nRelatório Anual\nConfidencial\n\f"
+                + "Projetos\nRelatório Anual\nConfidencial\n\f"
+                + "Formação\nConfidencial\n\f";
+
+        // Act
+        String normalized = preprocessor.normalize(content);
+
+        // Assert
+        assertEquals("Maria Souza\nExperiência\nRelatório Anual\nConfidencial\n\n"
+                + "Projetos\nRelatório Anual\n\n"
+                + "Formação", normalized);
+    }
+
+    @Test
+    void testSplit_KeepsParagraphsTogether() {
+        // Arrange
+        String text = "Experiência profissional\n\nFormação acadêmica\n\nPublicações";
+
+        // Act
+        List<String> sections = preprocessor.split(text, 45);
+
+        // Assert
+        assertEquals(List.of("Experiência profissional\n\nFormação acadêmica", "Publicações"), sections);
+    }
+
+    @Test
+    void testPrepare_ShortResumeIsNotChunked() {
+        // Act
+        PreparedResume prepared = preprocessor.prepare("Resume content");
+
+        // Assert
+        assertFalse(prepared.isChunked());
+        assertFalse(prepared.truncated());
+        assertEquals("Resume content", prepared.text());
+    }
+
+    @Test
+    void testPrepare_LongResumeIsTruncatedAndChunked() {
+        // Arrange
+        String content = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> "Artigo " + i + " publicado em conferência internacional")
+                .collect(Collectors.joining("\n\n"));
+
+        // Act
+        PreparedResume prepared = preprocessor.prepare(content);
+
+        // Assert
+        assertTrue(prepared.truncated());
+        assertTrue(prepared.text().length() <= 200);
+        assertTrue(prepared.isChunked());
+        assertTrue(prepared.sections().stream().allMatch(section -> section.length() <= 40));
+    }
+}
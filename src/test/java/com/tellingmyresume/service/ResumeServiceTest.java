@@ -0,0 +1,120 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tellingmyresume.exception.ExtractionOverloadedException;
+import com.tellingmyresume.exception.ResumeNotFoundException;
+import com.tellingmyresume.util.FileUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeServiceTest {
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private FileUtils fileUtils;
+
+    @Mock
+    private ResumeNameIndex resumeNameIndex;
+
+    private ResumeService resumeService;
+
+    @BeforeEach
+    void setUp() {
+        TextExtractionExecutor extractionExecutor = new TextExtractionExecutor(1, 4, Duration.ofSeconds(5), Duration.ofSeconds(5), 2,
+                Duration.ofHours(1), new SimpleMeterRegistry());
+        resumeService = new ResumeService(storageService, fileUtils, resumeNameIndex, extractionExecutor);
+    }
+
+    @Test
+    void testReadResume_UsesStoredExtractedText() throws Exception {
+        // Arrange
+        String fileName = "test-resume.pdf";
+        when(resumeNameIndex.contains(fileName)).thenReturn(true);
+        when(storageService.readExtractedText(fileName)).thenReturn(Optional.of("Resume content"));
+
+        // Act
+        String result = resumeService.readResume(fileName);
+
+        // Assert
+        assertEquals("Resume content", result);
+        verify(storageService, never()).readStream(anyString(), any());
+        verify(fileUtils, never()).extractText(anyString(), any(InputStream.class));
+    }
+
+    @Test
+    void testReadResume_ExtractsAndStoresTextOnFirstRead() throws Exception {
+        // Arrange
+        String fileName = "test-resume.txt";
+        byte[] content = "Resume content".getBytes();
+        when(resumeNameIndex.contains(fileName)).thenReturn(true);
+        when(storageService.readExtractedText(fileName)).thenReturn(Optional.empty());
+        when(storageService.readStream(eq(fileName), any())).thenAnswer(invocation ->
+            invocation.<StorageService.ContentReader<String>>getArgument(1).read(new ByteArrayInputStream(content)));
+        when(storageService.readContentChecksum(fileName)).thenReturn(Optional.of("checksum"));
+        when(fileUtils.extractText(eq(fileName), any(InputStream.class))).thenReturn("Resume content");
+
+        // Act
+        String result = resumeService.readResume(fileName);
+
+        // Assert
+        assertEquals("Resume content", result);
+        verify(storageService).saveExtractedText(fileName, "checksum", "Resume content");
+    }
+
+    @Test
+    void testReadResume_NotFound() {
+        // Arrange
+        String fileName = "non-existent.pdf";
+        when(resumeNameIndex.contains(fileName)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResumeNotFoundException.class, () -> resumeService.readResume(fileName));
+        verify(storageService, never()).readExtractedText(anyString());
+    }
+
+    @Test
+    void testReadResume_ExtractionOverloadIsNotReportedAsNotFound() throws Exception {
+        // Arrange
+        String fileName = "test-resume.pdf";
+        when(resumeNameIndex.contains(fileName)).thenReturn(true);
+        when(storageService.readExtractedText(fileName)).thenReturn(Optional.empty());
+        when(storageService.readStream(eq(fileName), any()))
+            .thenThrow(new ExtractionOverloadedException("Limite de extrações de PDF simultâneas atingido"));
+
+        // Act & Assert
+        assertThrows(ExtractionOverloadedException.class, () -> resumeService.readResume(fileName));
+    }
+
+    @Test
+    void testResumeExists_AnsweredFromNameIndex() {
+        // Arrange
+        when(resumeNameIndex.contains("test-resume.pdf")).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(resumeService.resumeExists("test-resume.pdf"));
+        verify(storageService, never()).fileExists(anyString());
+    }
+}
@@ -0,0 +1,76 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tellingmyresume.service.ResumeViewCacheService.RenderResult;
+import com.tellingmyresume.service.ResumeViewCacheService.RenderedView;
+import com.tellingmyresume.service.ResumeViewCacheService.ViewCacheKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ResumeViewCacheServiceTest {
+
+    private ResumeViewCacheService viewCache;
+
+    @BeforeEach
+    void setUp() {
+        viewCache = new ResumeViewCacheService(100, Duration.ofMinutes(10), "v1", new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testGetOrRender_RendersOncePerKey() {
+        // Arrange
+        ViewCacheKey key = viewCache.keyFor("Resume content", null, Locale.forLanguageTag("pt-BR"));
+        AtomicInteger renders = new AtomicInteger();
+
+        // Act
+        RenderedView first = viewCache.getOrRender(key, () -> {
+            renders.incrementAndGet();
+            return new RenderResult("<p>AI analysis</p>", true);
+        });
+        RenderedView second = viewCache.getOrRender(key, () -> {
+            renders.incrementAndGet();
+            return new RenderResult("<p>Other analysis</p>", true);
+        });
+
+        // Assert
+        assertEquals(1, renders.get());
+        assertSame(first, second);
+        assertEquals(1, viewCache.size());
+    }
+
+    @Test
+    void testGetOrRender_ErrorPageIsNotCached() {
+        // Arrange
+        ViewCacheKey key = viewCache.keyFor("Resume content", "Gemini", Locale.ENGLISH);
+
+        // Act
+        RenderedView errorView = viewCache.getOrRender(key, () -> new RenderResult("<p>Erro</p>", false));
+        RenderedView view = viewCache.getOrRender(key, () -> new RenderResult("<p>AI analysis</p>", true));
+
+        // Assert
+        assertNotEquals(errorView.etag(), view.etag());
+        assertEquals("<p>AI analysis</p>", view.html());
+        assertEquals(1, viewCache.size());
+    }
+
+    @Test
+    void testKeyFor_DependsOnProviderAndLocale() {
+        // Act & Assert
+        assertNotEquals(viewCache.keyFor("Resume content", "Claude", Locale.ENGLISH),
+                viewCache.keyFor("Resume content", "Gemini", Locale.ENGLISH));
+        assertNotEquals(viewCache.keyFor("Resume content", "Claude", Locale.ENGLISH),
+                viewCache.keyFor("Resume content", "Claude", Locale.forLanguageTag("pt-BR")));
+        assertEquals(viewCache.keyFor("Resume content", "Claude", Locale.ENGLISH),
+                viewCache.keyFor("Resume content", "claude", Locale.ENGLISH));
+    }
+}
@@ -0,0 +1,193 @@
+package com.tellingmyresume.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tellingmyresume.exception.DocumentQuarantinedException;
+import com.tellingmyresume.exception.ExtractionOverloadedException;
+import com.tellingmyresume.exception.ExtractionTimeoutException;
+import com.tellingmyresume.utils.ExtractionDeadline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TextExtractionExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private TextExtractionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new TextExtractionExecutor(2, 4, Duration.ofMillis(200), Duration.ofSeconds(5), 2,
+                Duration.ofHours(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testExecute_ReturnsResultFromWorkerThread() throws Exception {
+        // Act
+        String threadName = executor.execute("resume.pdf", () -> Thread.currentThread().getName());
+
+        // Assert
+        assertTrue(threadName.startsWith("text-extraction-"));
+        assertEquals(1, meterRegistry.get(TextExtractionExecutor.DURATION_METRIC).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testExecute_PropagatesExtractionFailure() {
+        // Arrange
+        IOException failure = new IOException("PDF corrompido");
+
+        // Act
+        IOException thrown = assertThrows(IOException.class, () -> executor.execute("resume.pdf", () -> {
+            throw failure;
+        }));
+
+        // Assert
+        assertSame(failure, thrown);
+        assertFalse(executor.isQuarantined("resume.pdf"));
+    }
+
+    @Test
+    void testExecute_TimeoutCancelsTheExtraction() throws Exception {
+        // Arrange
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // Act
+        assertThrows(ExtractionTimeoutException.class, () -> executor.execute("slow.pdf", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "texto";
+        }));
+
+        // Assert
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get(TextExtractionExecutor.DURATION_METRIC).tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    void testExecute_QuarantinesDocumentAfterRepeatedTimeouts() throws Exception {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ExtractionTimeoutException.class, () -> executor.execute("bad.pdf", () -> {
+                runs.incrementAndGet();
+                Thread.sleep(10_000);
+                return "texto";
+            }));
+        }
+
+        // Act & Assert
+        assertTrue(executor.isQuarantined("bad.pdf"));
+        assertThrows(DocumentQuarantinedException.class, () -> executor.execute("bad.pdf", () -> {
+            runs.incrementAndGet();
+            return "texto";
+        }));
+        assertEquals(2, runs.get());
+        assertEquals(1.0, meterRegistry.get(TextExtractionExecutor.REJECTED_METRIC).tag("reason", "quarantined").counter().count());
+
+        executor.release("bad.pdf");
+        assertEquals("texto", executor.execute("bad.pdf", () -> "texto"));
+    }
+
+    @Test
+    void testExecute_TimeSpentQueuedDoesNotCountTowardsTheDeadline() throws Exception {
+        // Arrange
+        TextExtractionExecutor singleThread = new TextExtractionExecutor(1, 4, Duration.ofMillis(500),
+                Duration.ofSeconds(5), 1, Duration.ofHours(1), meterRegistry);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = callers.submit(() -> singleThread.execute("first.pdf", () -> {
+                firstStarted.countDown();
+                Thread.sleep(400);
+                return "primeiro";
+            }));
+            assertTrue(firstStarted.await(2, TimeUnit.SECONDS));
+
+            // Act
+            String second = singleThread.execute("second.pdf", () -> {
+                Thread.sleep(300);
+                return "segundo";
+            });
+
+            // Assert
+            assertEquals("primeiro", first.get(5, TimeUnit.SECONDS));
+            assertEquals("segundo", second);
+            assertFalse(singleThread.isQuarantined("second.pdf"));
+        } finally {
+            callers.shutdownNow();
+            singleThread.shutdown();
+        }
+    }
+
+    @Test
+    void testExecute_QueueTimeoutIsOverloadAndNotQuarantine() throws Exception {
+        // Arrange
+        TextExtractionExecutor singleThread = new TextExtractionExecutor(1, 4, Duration.ofSeconds(5),
+                Duration.ofMillis(100), 1, Duration.ofHours(1), meterRegistry);
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            callers.submit(() -> singleThread.execute("busy.pdf", () -> {
+                busy.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            assertTrue(busy.await(2, TimeUnit.SECONDS));
+
+            // Act & Assert
+            assertThrows(ExtractionOverloadedException.class,
+                    () -> singleThread.execute("queued.pdf", () -> "texto"));
+            assertFalse(singleThread.isQuarantined("queued.pdf"));
+            assertEquals(1.0, meterRegistry.get(TextExtractionExecutor.REJECTED_METRIC)
+                    .tag("reason", "queue-timeout").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            singleThread.shutdown();
+        }
+    }
+
+    @Test
+    void testExecute_PausedWaitDoesNotCountTowardsTheDeadline() throws Exception {
+        // Act
+        String text = executor.execute("waiting.pdf", () -> {
+            ExtractionDeadline.pause();
+            try {
+                Thread.sleep(400);
+            } finally {
+                ExtractionDeadline.resume();
+            }
+            return "texto";
+        });
+
+        // Assert
+        assertEquals("texto", text);
+        assertFalse(executor.isQuarantined("waiting.pdf"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.tellingmyresume.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.wp.usermodel.HeaderFooterType;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class DocxTextExtractorTest {
+
+    private final DocxTextExtractor extractor = new DocxTextExtractor(DataSize.ofMegabytes(1));
+
+    @Test
+    void testExtract_ParagraphsAndTableRows() throws Exception {
+        // Arrange
+        byte[] docx = createDocx();
+
+        // Act
+        String text = extractor.extract(new ByteArrayInputStream(docx));
+
+        // Assert
+        assertEquals(List.of("Resumo profissional", "Java e Spring Boot", "Cargo\tEmpresa", "Desenvolvedor\tACME"),
+                nonBlankLines(text));
+    }
+
+    @Test
+    void testExtract_SameParagraphTextAsPoi() throws Exception {
+        // Arrange
+        byte[] docx = createDocx();
+
+        // Act
+        String streamed = extractor.extractStreaming(docx);
+        String poi = extractor.extractWithPoi(docx);
+
+        // Assert
+        assertEquals(nonBlankLines(poi), nonBlankLines(streamed));
+    }
+
+    @Test
+    void testExtract_HeaderAndFooterInSameOrderAsPoi() throws Exception {
+        // Arrange
+        byte[] docx = createDocxWithHeaderAndFooter();
+
+        // Act
+        String streamed = extractor.extractStreaming(docx);
+        String poi = extractor.extractWithPoi(docx);
+
+        // Assert
+        assertEquals(List.of("João Silva - joao@example.com", "Resumo profissional", "Java e Spring Boot",
+                "Cargo\tEmpresa", "Desenvolvedor\tACME", "Página confidencial"), nonBlankLines(streamed));
+        assertEquals(nonBlankLines(poi), nonBlankLines(streamed));
+    }
+
+    @Test
+    void testExtract_MalformedXmlFallsBackToPoiAndFails() throws Exception {
+        // Arrange
+        byte[] docx = zip("<w:document");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> extractor.extract(new ByteArrayInputStream(docx)));
+    }
+
+    @Test
+    void testExtract_RejectsDocumentXmlAboveLimit() throws Exception {
+        // Arrange
+        DocxTextExtractor limited = new DocxTextExtractor(DataSize.ofBytes(64));
+        byte[] docx = createDocx();
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> limited.extract(new ByteArrayInputStream(docx)));
+    }
+
+    private static List<String> nonBlankLines(String text) {
+        return Arrays.stream(text.split("\\R")).map(String::strip).filter(line -> !line.isEmpty()).toList();
+    }
+
+    private static byte[] createDocx() throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            return addBodyAndWrite(document);
+        }
+    }
+
+    private static byte[] createDocxWithHeaderAndFooter() throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            document.createHeader(HeaderFooterType.DEFAULT).createParagraph().createRun()
+                    .setText("João Silva - joao@example.com");
+            document.createFooter(HeaderFooterType.DEFAULT).createParagraph().createRun()
+                    .setText("Página confidencial");
+            return addBodyAndWrite(document);
+        }
+    }
+
+    private static byte[] addBodyAndWrite(XWPFDocument document) throws IOException {
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            document.createParagraph().createRun().setText("Resumo profissional");
+            document.createParagraph().createRun().setText("Java e Spring Boot");
+            XWPFTable table = document.createTable(2, 2);
+            table.getRow(0).getCell(0).setText("Cargo");
+            table.getRow(0).getCell(1).setText("Empresa");
+            table.getRow(1).getCell(0).setText("Desenvolvedor");
+            table.getRow(1).getCell(1).setText("ACME");
+            document.write(output);
+            return output.toByteArray();
+        }
+    }
+
+    private static byte[] zip(String documentXml) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(documentXml.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return output.toByteArray();
+    }
+}
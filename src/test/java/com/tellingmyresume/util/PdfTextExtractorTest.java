@@ -0,0 +1,176 @@
+package com.tellingmyresume.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.tellingmyresume.exception.ExtractionOverloadedException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PdfTextExtractorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PdfTextExtractor extractor;
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    @Test
+    void testExtract_SmallDocumentStaysSingleThreaded() throws Exception {
+        // Arrange
+        extractor = extractor(16, 8, 2, DataSize.ofMegabytes(16), 4);
+        byte[] pdf = createPdf(3);
+
+        // Act
+        String text = extractor.extract(new ByteArrayInputStream(pdf));
+
+        // Assert
+        assertEquals(List.of("Pagina 1", "Pagina 2", "Pagina 3"), nonBlankLines(text));
+    }
+
+    @Test
+    void testExtract_LargeDocumentKeepsPageOrderAcrossRanges() throws Exception {
+        // Arrange
+        extractor = extractor(4, 2, 4, DataSize.ofMegabytes(16), 4);
+        byte[] pdf = createPdf(11);
+
+        // Act
+        String text = extractor.extract(new ByteArrayInputStream(pdf));
+
+        // Assert
+        List<String> lines = nonBlankLines(text);
+        assertEquals(11, lines.size());
+        for (int page = 1; page <= 11; page++) {
+            assertEquals("Pagina " + page, lines.get(page - 1));
+        }
+        assertEquals(singleThreaded(pdf), text);
+    }
+
+    @Test
+    void testExtract_ZeroMemoryBudgetSpillsToScratchFileAndCleansUp() throws Exception {
+        // Arrange
+        extractor = extractor(16, 8, 1, DataSize.ofBytes(0), 4);
+        byte[] pdf = createPdf(3);
+
+        // Act
+        String text = extractor.extract(new ByteArrayInputStream(pdf));
+
+        // Assert
+        assertEquals(List.of("Pagina 1", "Pagina 2", "Pagina 3"), nonBlankLines(text));
+        assertTrue(meterRegistry.get("resume.extraction.pdf.spilled").summary().totalAmount() > 0);
+        try (Stream<Path> leftovers = Files.list(tempDir)) {
+            assertEquals(0, leftovers.count());
+        }
+    }
+
+    @Test
+    void testExtract_RejectsWhenNoParseSlotIsAvailable() throws Exception {
+        // Arrange
+        extractor = extractor(16, 8, 1, DataSize.ofMegabytes(16), 0);
+        byte[] pdf = createPdf(1);
+
+        // Act & Assert
+        assertThrows(ExtractionOverloadedException.class, () -> extractor.extract(new ByteArrayInputStream(pdf)));
+        assertEquals(1.0, meterRegistry.get("resume.extraction.pdf.rejected").counter().count());
+    }
+
+    @Test
+    void testExtract_InterruptedCallerKeepsSlotUntilPageTasksStop() throws Exception {
+        // Arrange
+        extractor = extractor(2, 1, 1, DataSize.ofMegabytes(16), 1);
+        byte[] pdf = createPdf(200);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                extractor.extract(new ByteArrayInputStream(pdf));
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+
+        // Act
+        caller.start();
+        while (caller.isAlive() && meterRegistry.get("resume.extraction.pdf.active").gauge().value() == 0) {
+            Thread.onSpinWait();
+        }
+        caller.interrupt();
+        caller.join(10_000);
+
+        // Assert
+        assertFalse(caller.isAlive());
+        assertEquals(0.0, meterRegistry.get("resume.extraction.pdf.active").gauge().value());
+        try (Stream<Path> leftovers = Files.list(tempDir)) {
+            assertEquals(0, leftovers.count());
+        }
+        if (failure.get() != null) {
+            assertInstanceOf(IOException.class, failure.get());
+        }
+    }
+
+    private PdfTextExtractor extractor(int pageThreshold, int pagesPerTask, int parallelism,
+                                       DataSize maxMainMemory, int maxConcurrentParses) {
+        return new PdfTextExtractor(pageThreshold, pagesPerTask, parallelism, maxMainMemory,
+                maxConcurrentParses, Duration.ofMillis(50), tempDir.toString(), meterRegistry);
+    }
+
+    private String singleThreaded(byte[] pdf) throws IOException {
+        PdfTextExtractor sequential = new PdfTextExtractor(Integer.MAX_VALUE, 1, 1, DataSize.ofMegabytes(16),
+                1, Duration.ofSeconds(1), tempDir.toString(), new SimpleMeterRegistry());
+        try {
+            return sequential.extract(new ByteArrayInputStream(pdf));
+        } finally {
+            sequential.shutdown();
+        }
+    }
+
+    private static List<String> nonBlankLines(String text) {
+        return Arrays.stream(text.split("\\R")).map(String::trim).filter(line -> !line.isEmpty()).toList();
+    }
+
+    private static byte[] createPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            for (int i = 1; i <= pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                    stream.beginText();
+                    stream.setFont(PDType1Font.HELVETICA, 12);
+                    stream.newLineAtOffset(72, 700);
+                    stream.showText("Pagina " + i);
+                    stream.endText();
+                }
+            }
+            document.save(output);
+            return output.toByteArray();
+        }
+    }
+}
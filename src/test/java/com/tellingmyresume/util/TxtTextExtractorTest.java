@@ -0,0 +1,85 @@
+package com.tellingmyresume.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class TxtTextExtractorTest {
+
+    private static final String RESUME = "Currículo: João da Conceição – Engenheiro de Software Sênior";
+
+    private final TxtTextExtractor extractor = new TxtTextExtractor(DataSize.ofKilobytes(64));
+
+    @Test
+    void testExtract_Utf8WithoutBom() throws Exception {
+        assertEquals(RESUME, extract(RESUME.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testExtract_Utf8BomIsRemoved() throws Exception {
+        // Arrange
+        byte[] content = concat(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, RESUME.getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertEquals(RESUME, extract(content));
+    }
+
+    @Test
+    void testExtract_Windows1252() throws Exception {
+        assertEquals(RESUME, extract(RESUME.getBytes(Charset.forName("windows-1252"))));
+    }
+
+    @Test
+    void testExtract_Utf16WithBom() throws Exception {
+        assertEquals(RESUME, extract(concat(new byte[] {(byte) 0xFF, (byte) 0xFE}, RESUME.getBytes(StandardCharsets.UTF_16LE))));
+        assertEquals(RESUME, extract(concat(new byte[] {(byte) 0xFE, (byte) 0xFF}, RESUME.getBytes(StandardCharsets.UTF_16BE))));
+    }
+
+    @Test
+    void testExtract_Utf16WithoutBom() throws Exception {
+        assertEquals(RESUME, extract(RESUME.getBytes(StandardCharsets.UTF_16LE)));
+        assertEquals(RESUME, extract(RESUME.getBytes(StandardCharsets.UTF_16BE)));
+    }
+
+    @Test
+    void testExtract_Utf8SequenceCutAtSampleBoundary() throws Exception {
+        // Arrange: "ç" ocupa os bytes 3 e 4, a amostra de 4 bytes corta o caractere
+        TxtTextExtractor smallSample = new TxtTextExtractor(DataSize.ofBytes(4));
+        byte[] content = "aaaçb".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        String text = smallSample.extract(new ByteArrayInputStream(content));
+
+        // Assert
+        assertEquals("aaaçb", text);
+    }
+
+    @Test
+    void testDetect_TruncatedUtf8AtEndOfFileIsNotUtf8() {
+        // Arrange
+        byte[] content = {'a', 'b', (byte) 0xC3};
+
+        // Act
+        TxtTextExtractor.DetectedCharset detected = TxtTextExtractor.detect(content, true);
+
+        // Assert
+        assertEquals(Charset.forName("windows-1252"), detected.charset());
+    }
+
+    private String extract(byte[] content) throws Exception {
+        return extractor.extract(new ByteArrayInputStream(content));
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.writeBytes(first);
+        output.writeBytes(second);
+        return output.toByteArray();
+    }
+}
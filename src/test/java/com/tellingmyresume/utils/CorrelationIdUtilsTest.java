@@ -0,0 +1,77 @@
+package com.tellingmyresume.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class CorrelationIdUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        CorrelationIdUtils.clearCorrelationId();
+        MDC.clear();
+    }
+
+    @Test
+    void testWithCurrentContext_InlineRunRestoresCallerContext() throws Exception {
+        // Arrange
+        CorrelationIdUtils.setCorrelationId("submitter");
+        MDC.put("fileName", "submitter.pdf");
+        Callable<String> task = CorrelationIdUtils.withCurrentContext(
+            () -> CorrelationIdUtils.getCorrelationId() + ":" + MDC.get("fileName"));
+
+        CorrelationIdUtils.setCorrelationId("caller");
+        MDC.clear();
+        MDC.put("fileName", "caller.pdf");
+
+        // Act
+        String seenByTask = task.call();
+
+        // Assert
+        assertEquals("submitter:submitter.pdf", seenByTask);
+        assertEquals("caller", CorrelationIdUtils.getCorrelationId());
+        assertEquals("caller.pdf", MDC.get("fileName"));
+    }
+
+    @Test
+    void testWithCurrentContext_WorkerThreadIsLeftClean() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CorrelationIdUtils.setCorrelationId("submitter");
+        MDC.put("fileName", "submitter.pdf");
+        Callable<String> task = CorrelationIdUtils.withCurrentContext(CorrelationIdUtils::getCorrelationId);
+
+        try {
+            // Act
+            String seenByTask = executor.submit(task).get();
+            String leftOver = executor.submit(() -> CorrelationIdUtils.getCorrelationId() + ":" + MDC.get("fileName")).get();
+
+            // Assert
+            assertEquals("submitter", seenByTask);
+            assertEquals("null:null", leftOver);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWithCurrentContext_NoCapturedContextClearsStaleValues() throws Exception {
+        // Arrange
+        Callable<String> task = CorrelationIdUtils.withCurrentContext(CorrelationIdUtils::getCorrelationId);
+        CorrelationIdUtils.setCorrelationId("caller");
+
+        // Act
+        String seenByTask = task.call();
+
+        // Assert
+        assertNull(seenByTask);
+        assertEquals("caller", CorrelationIdUtils.getCorrelationId());
+    }
+}